@@ -0,0 +1,379 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free, append-only `DynamicArrayADT` for many producer threads.
+ *
+ * `add(T)` reserves a slot with a CAS on the tail index, so producers never
+ * wait for each other. Elements live in fixed-size segments that are added as
+ * the array grows, so nothing is ever copied. A segment is found through a
+ * two-level directory whose entries are installed by CAS and never replaced.
+ * `get(int)` is wait-free: it only sees indices below `size()`, and `size()`
+ * only counts elements that have been fully published.
+ *
+ * Elements cannot be `null` (an empty slot is how a reserved but unwritten
+ * element is recognized), and elements can be replaced with `set` but never
+ * inserted or removed.
+ */
+public class AppendOnlyDynamicArray<T> implements DynamicArrayADT<T> {
+    /** log2 of the number of elements per segment */
+    static final int SEGMENT_SHIFT = 10;
+    /** log2 of the number of segments per middle directory */
+    static final int DIRECTORY_SHIFT = 10;
+    /** The number of elements per segment */
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    /** The number of segments per middle directory */
+    static final int DIRECTORY_SIZE = 1 << DIRECTORY_SHIFT;
+    /** The largest number of elements the array can hold */
+    static final int MAX_SIZE = Integer.MAX_VALUE;
+    /** Reads and writes slots of the directories and segments */
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** Top directory: each entry is a middle directory of segments (never replaced) */
+    private final Object[] directory = new Object[(MAX_SIZE >>> (SEGMENT_SHIFT + DIRECTORY_SHIFT)) + 1];
+    /** The number of slots handed out to producers */
+    private final AtomicInteger reserved = new AtomicInteger();
+    /** The number of leading slots that are written (the visible size) */
+    private final AtomicInteger published = new AtomicInteger();
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty AppendOnlyDynamicArray
+     */
+    public AppendOnlyDynamicArray() {
+    }
+
+    /**
+     * Private utility to find (and optionally create) the segment holding an index.
+     * A losing CAS adopts the winner's directory or segment, so every thread
+     * ends up writing into the same one.
+     *
+     * @param index  The element index
+     * @param create Whether missing directories/segments should be created
+     * @return The segment (or `null` if it does not exist and `create` is false)
+     */
+    private Object[] segment(int index, boolean create) {
+        Object[] middle = install(this.directory, index >>> (SEGMENT_SHIFT + DIRECTORY_SHIFT), DIRECTORY_SIZE, create);
+        if (middle == null) {
+            return null;
+        }
+        return install(middle, (index >>> SEGMENT_SHIFT) & (DIRECTORY_SIZE - 1), SEGMENT_SIZE, create);
+    }
+
+    /**
+     * Private utility to read a directory entry, creating it with a CAS if needed
+     */
+    private static Object[] install(Object[] table, int slot, int newLength, boolean create) {
+        Object[] entry = (Object[]) SLOTS.getAcquire(table, slot);
+        if (entry == null && create) {
+            Object[] fresh = new Object[newLength];
+            Object witness = SLOTS.compareAndExchangeRelease(table, slot, null, fresh);
+            entry = witness == null ? fresh : (Object[]) witness;
+        }
+        return entry;
+    }
+
+    /**
+     * Private utility to read a slot (`null` if not written yet)
+     */
+    private Object slot(int index) {
+        Object[] segment = segment(index, false);
+        return segment == null ? null : SLOTS.getAcquire(segment, index & (SEGMENT_SIZE - 1));
+    }
+
+    /**
+     * Private utility to move the published size past every written slot.
+     * Each producer calls this after writing, so the last one to finish a run
+     * of slots publishes all of them.
+     */
+    private void publish() {
+        int visible = this.published.get();
+        while (visible < this.reserved.get() && slot(visible) != null) {
+            this.published.compareAndSet(visible, visible + 1);
+            visible = this.published.get();
+        }
+    }
+
+    /**
+     * Returns the number of slots handed out to producers (the size once every
+     * producer has finished)
+     *
+     * @return The number of reserved slots
+     */
+    int reserved() {
+        return this.reserved.get();
+    }
+
+    /**
+     * Returns a copy of the published elements
+     *
+     * @return A new array holding the elements in order
+     */
+    public Object[] toArray() {
+        int count = size();
+        Object[] copy = new Object[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = slot(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Private utility to build a new AppendOnlyDynamicArray from elements
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> AppendOnlyDynamicArray<T> of(Object[] elements) {
+        AppendOnlyDynamicArray<T> result = new AppendOnlyDynamicArray<>();
+        for (Object item : elements) {
+            result.add((T) item);
+        }
+        return result;
+    }
+
+    /**
+     * Private utility to copy the elements of any Dynamic Array
+     */
+    private static Object[] elementsOf(DynamicArrayADT<?> dynamicArray) {
+        Object[] elements = new Object[dynamicArray.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = dynamicArray.get(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range against a size
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex, int size)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `AppendOnlyDynamicArray`
+     */
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Replaces the value at a published index
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting (not `null`)
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the item is `null`
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T item) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (item == null) {
+            throw new IllegalArgumentException("An append-only Dynamic Array cannot hold null.");
+        }
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        return (T) SLOTS.getAndSet(segment(index, false), index & (SEGMENT_SIZE - 1), item);
+    }
+
+    /**
+     * Gets the value from a given index. Never blocks or retries.
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid or not yet published indices
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return (T) slot(index);
+    }
+
+    /**
+     * Returns the number of published elements
+     *
+     * @return The size of the AppendOnlyDynamicArray
+     */
+    public int size() {
+        return this.published.get();
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the AppendOnlyDynamicArray without locking
+     *
+     * @param item The new item to be added (not `null`)
+     * @throws IllegalArgumentException if the item is `null`
+     * @throws IllegalStateException    if the array already holds `MAX_SIZE` items
+     */
+    public void add(T item) throws IllegalArgumentException, IllegalStateException {
+        if (item == null) {
+            throw new IllegalArgumentException("An append-only Dynamic Array cannot hold null.");
+        }
+        // 1. Reserve a slot by moving the tail with a CAS
+        int index;
+        do {
+            index = this.reserved.get();
+            if (index == MAX_SIZE) {
+                throw new IllegalStateException("The append-only Dynamic Array is full.");
+            }
+        } while (!this.reserved.compareAndSet(index, index + 1));
+        // 2. Write the item into its (possibly new) segment
+        SLOTS.setVolatile(segment(index, true), index & (SEGMENT_SIZE - 1), item);
+        // 3. Make it (and any earlier finished slots) visible to readers. The
+        // fence orders our write before our reads in `publish`: of two
+        // producers finishing at once, at least one sees the other's slot, so
+        // no written slot is left unpublished
+        VarHandle.fullFence();
+        publish();
+    }
+
+    /**
+     * Not supported: elements can only be appended
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void add(int index, T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is append-only.");
+    }
+
+    /**
+     * Not supported: elements can only be appended
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public T remove(int index) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is append-only.");
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays into a new AppendOnlyDynamicArray
+     *
+     * @param secondDA The second Dynamic Array
+     * @return The resulting AppendOnlyDynamicArray
+     */
+    public AppendOnlyDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        AppendOnlyDynamicArray<T> result = of(toArray());
+        for (T item : secondDA) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index, into a new AppendOnlyDynamicArray
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted
+     * @return The resulting AppendOnlyDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public AppendOnlyDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        Object[] current = toArray();
+        checkRange(index, current.length, current.length);
+        Object[] inserted = elementsOf(newDA);
+        Object[] result = new Object[current.length + inserted.length];
+        // 1. Copy elements before the index, 2. the inserted elements, 3. the rest
+        System.arraycopy(current, 0, result, 0, index);
+        System.arraycopy(inserted, 0, result, index, inserted.length);
+        System.arraycopy(current, index, result, index + inserted.length, current.length - index);
+        return of(result);
+    }
+
+    /**
+     * Returns a copy of the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new AppendOnlyDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public AppendOnlyDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex, size());
+        AppendOnlyDynamicArray<T> result = new AppendOnlyDynamicArray<>();
+        for (int i = fromIndex; i < toIndex; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements before a specified index
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new AppendOnlyDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public AppendOnlyDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new AppendOnlyDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public AppendOnlyDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        int currentSize = size();
+        checkRange(fromIndex, currentSize, currentSize);
+        return sublist(fromIndex, currentSize);
+    }
+
+    /**
+     * Deletes items at a specified range, into a new AppendOnlyDynamicArray
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting AppendOnlyDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public AppendOnlyDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        Object[] current = toArray();
+        checkRange(fromIndex, toIndex, current.length);
+        Object[] result = new Object[current.length - (toIndex - fromIndex)];
+        // 1. Copy elements before fromIndex, 2. elements from toIndex on
+        System.arraycopy(current, 0, result, 0, fromIndex);
+        System.arraycopy(current, toIndex, result, fromIndex, current.length - toIndex);
+        return of(result);
+    }
+
+    /**
+     * Creates a new AppendOnlyDynamicArray from a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new AppendOnlyDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public AppendOnlyDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
@@ -0,0 +1,161 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AppendOnlyDynamicArrayTests {
+
+    private AppendOnlyDynamicArray<Integer> numbers;
+
+    /**
+     * Initializes an append-only array holding 0..9 to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        numbers = new AppendOnlyDynamicArray<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+    }
+
+    // ~*~*~*~*~ Single-Thread Tests Below ~*~*~*~*~
+    /**
+     * Tests appending across several segments and replacing elements
+     */
+    @Test
+    public void testAddAcrossSegments() {
+        for (int i = 10; i < 5 * AppendOnlyDynamicArray.SEGMENT_SIZE; i++) {
+            numbers.add(i);
+        }
+        assertEquals(5 * AppendOnlyDynamicArray.SEGMENT_SIZE, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(Integer.valueOf(i), numbers.get(i));
+        }
+        assertEquals(Integer.valueOf(1500), numbers.set(1500, -1));
+        assertEquals(Integer.valueOf(-1), numbers.get(1500));
+    }
+
+    /**
+     * Tests that reading past the published elements throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        numbers.get(10);
+    }
+
+    /**
+     * Tests that elements cannot be removed
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveUnsupported() {
+        numbers.remove(0);
+    }
+
+    /**
+     * Tests that null cannot be appended
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        numbers.add(null);
+    }
+
+    /**
+     * Tests that whole-array operations return new arrays
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        AppendOnlyDynamicArray<Integer> middle = numbers.sublist(3, 6);
+        assertEquals("[3, 4, 5]", middle.toString());
+        assertEquals("[0, 1, 3, 4, 5, 2, 3, 4, 5, 6, 7, 8, 9]", numbers.insert(2, middle).toString());
+        assertEquals("[0, 1, 2, 7, 8, 9]", numbers.delete(3, 7).toString());
+        assertEquals("[8, 9, 3, 4, 5]", numbers.splitSuffix(8).append(middle).toString());
+        assertEquals("[]", numbers.splitPrefix(0).toString());
+    }
+
+    // ~*~*~*~*~ Multi-Thread Tests Below ~*~*~*~*~
+    /**
+     * Tests that concurrent producers never lose or duplicate an element and
+     * that readers only ever see published elements
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50000;
+        AppendOnlyDynamicArray<Integer> shared = new AppendOnlyDynamicArray<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    shared.add(first + i);
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int visible = shared.size();
+                if (visible > 0 && shared.get(visible - 1) == null) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.setUncaughtExceptionHandler((t, e) -> failed.set(true));
+        reader.start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(producers * perProducer, shared.size());
+        boolean[] seen = new boolean[producers * perProducer];
+        for (int item : shared) {
+            assertFalse(seen[item]);
+            seen[item] = true;
+        }
+    }
+
+    /**
+     * Tests that producers finishing at the same moment publish each other's
+     * slots, so nothing written stays invisible once they have all returned
+     */
+    @Test
+    public void testSimultaneousProducersPublishAll() throws Exception {
+        int producers = 4;
+        for (int round = 0; round < 2000; round++) {
+            AppendOnlyDynamicArray<Integer> shared = new AppendOnlyDynamicArray<>();
+            CyclicBarrier start = new CyclicBarrier(producers);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int item = p;
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    shared.add(item);
+                    shared.add(item);
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(shared.reserved(), shared.size());
+            assertEquals(2 * producers, shared.size());
+        }
+    }
+}
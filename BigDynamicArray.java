@@ -0,0 +1,654 @@
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A `DynamicArrayADT` with `long` indices, for more elements than one Java
+ * array can hold.
+ *
+ * Elements are stored in fixed-size pages (16384 elements each) listed in a
+ * directory array. Growing adds pages and, once in a while, doubles the
+ * directory, which copies page references only: existing elements never move.
+ * Pages are small enough that they are never humongous G1 allocations.
+ *
+ * Every `DynamicArrayADT` operation is available with `int` indices and with
+ * `long` ones; `size()` stops at `Integer.MAX_VALUE` (as `Collection.size()`
+ * does) and `longSize()` gives the real size.
+ */
+public class BigDynamicArray<T> implements DynamicArrayADT<T> {
+    /** log2 of the default number of elements per page */
+    static final int PAGE_BITS = 14;
+
+    /** log2 of the number of elements per page */
+    private final int pageBits;
+    /** The number of elements per page */
+    private final int pageSize;
+    /** Selects the position within a page */
+    private final long pageMask;
+    /** The pages (`null` past the last allocated page) */
+    private Object[][] directory;
+    /** The number of allocated pages */
+    private int pages;
+    /** The number of elements */
+    private long count;
+    /** Counts structural changes (adds/removes) so iterators can fail fast */
+    private int modCount;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty BigDynamicArray
+     */
+    public BigDynamicArray() {
+        this(PAGE_BITS);
+    }
+
+    /**
+     * Makes an empty BigDynamicArray with pages of `2^pageBits` elements
+     *
+     * @param pageBits log2 of the number of elements per page
+     */
+    BigDynamicArray(int pageBits) {
+        this.pageBits = pageBits;
+        this.pageSize = 1 << pageBits;
+        this.pageMask = this.pageSize - 1;
+        this.directory = new Object[1][];
+    }
+
+    /**
+     * Makes an empty BigDynamicArray with the same page size as another
+     */
+    private BigDynamicArray<T> emptyLike() {
+        return new BigDynamicArray<>(this.pageBits);
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return The size of the BigDynamicArray
+     */
+    public long longSize() {
+        return this.count;
+    }
+
+    /**
+     * Returns how many elements the allocated pages can hold
+     *
+     * @return The capacity of the pages
+     */
+    public long capacity() {
+        return (long) this.pages << this.pageBits;
+    }
+
+    /**
+     * Private utility to find the page holding an index
+     */
+    private Object[] page(long index) {
+        return this.directory[(int) (index >>> this.pageBits)];
+    }
+
+    /**
+     * Private utility to find the position of an index within its page
+     */
+    private int offset(long index) {
+        return (int) (index & this.pageMask);
+    }
+
+    /**
+     * Private utility to add pages until the capacity reaches a minimum,
+     * doubling the directory when it is full
+     */
+    private void ensureCapacity(long minCapacity) {
+        while (capacity() < minCapacity) {
+            if (this.pages == this.directory.length) {
+                this.directory = Arrays.copyOf(this.directory, this.directory.length * 2);
+            }
+            this.directory[this.pages++] = new Object[this.pageSize];
+        }
+    }
+
+    /**
+     * Private utility to let go of the pages after the one holding the last
+     * element (keeping one spare page so add/remove at a boundary does not
+     * allocate every time)
+     */
+    private void trimPages() {
+        int needed = (int) ((this.count + this.pageSize - 1) >>> this.pageBits) + 1;
+        while (this.pages > needed) {
+            this.directory[--this.pages] = null;
+        }
+    }
+
+    /**
+     * Private utility to move `length` elements from one index to another,
+     * one page-sized block at a time (the ranges may overlap)
+     */
+    private void moveRange(long from, long to, long length) {
+        if (to > from) {
+            // 1. Moving right: copy from the end, so nothing is overwritten before it is read
+            for (long remaining = length; remaining > 0;) {
+                long last = from + remaining - 1;
+                long lastTarget = to + remaining - 1;
+                int chunk = (int) Math.min(remaining, Math.min(offset(last), offset(lastTarget)) + 1);
+                System.arraycopy(page(last), offset(last) - chunk + 1, page(lastTarget),
+                        offset(lastTarget) - chunk + 1, chunk);
+                remaining -= chunk;
+            }
+        } else {
+            // 2. Moving left: copy from the start
+            for (long done = 0; done < length;) {
+                int chunk = (int) Math.min(length - done,
+                        this.pageSize - Math.max(offset(from + done), offset(to + done)));
+                System.arraycopy(page(from + done), offset(from + done), page(to + done), offset(to + done),
+                        chunk);
+                done += chunk;
+            }
+        }
+    }
+
+    /**
+     * Private utility to clear [fromIndex, toIndex) so the pages let go of the
+     * elements
+     */
+    private void clearRange(long fromIndex, long toIndex) {
+        while (fromIndex < toIndex) {
+            int chunk = (int) Math.min(toIndex - fromIndex, this.pageSize - offset(fromIndex));
+            Arrays.fill(page(fromIndex), offset(fromIndex), offset(fromIndex) + chunk, null);
+            fromIndex += chunk;
+        }
+    }
+
+    /**
+     * Private utility to add a range of another BigDynamicArray to the end,
+     * one page-sized block at a time
+     */
+    private void appendRange(BigDynamicArray<? extends T> source, long fromIndex, long toIndex) {
+        ensureCapacity(this.count + toIndex - fromIndex);
+        while (fromIndex < toIndex) {
+            int chunk = (int) Math.min(toIndex - fromIndex, Math.min(source.pageSize - source.offset(fromIndex),
+                    this.pageSize - offset(this.count)));
+            System.arraycopy(source.page(fromIndex), source.offset(fromIndex), page(this.count), offset(this.count),
+                    chunk);
+            fromIndex += chunk;
+            this.count += chunk;
+        }
+        this.modCount++;
+    }
+
+    /**
+     * Private utility to add all items of any Dynamic Array to the end
+     */
+    private void appendAll(DynamicArrayADT<? extends T> dynamicArray) {
+        if (dynamicArray instanceof BigDynamicArray) {
+            BigDynamicArray<? extends T> big = (BigDynamicArray<? extends T>) dynamicArray;
+            appendRange(big, 0, big.count);
+        } else {
+            ensureCapacity(this.count + dynamicArray.size());
+            for (T item : dynamicArray) {
+                add(item);
+            }
+        }
+    }
+
+    /**
+     * Private utility to check an index of an element
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    private void checkIndex(long index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(long fromIndex, long toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.count) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Returns a copy of the elements
+     *
+     * @return A new array holding the elements in order
+     * @throws IllegalStateException if there are too many elements for one array
+     */
+    public Object[] toArray() throws IllegalStateException {
+        if (this.count > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for one array.");
+        }
+        Object[] copy = new Object[(int) this.count];
+        for (long i = 0; i < this.count; i += this.pageSize) {
+            System.arraycopy(page(i), 0, copy, (int) i, (int) Math.min(this.pageSize, this.count - i));
+        }
+        return copy;
+    }
+
+    /**
+     * Create a String representation of the current `BigDynamicArray`
+     */
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T set(long index, T item) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        Object[] page = page(index);
+        T previous = (T) page[offset(index)];
+        page[offset(index)] = item;
+        return previous;
+    }
+
+    /**
+     * Sets the value at the index to a specified value
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T set(int index, T item) throws IndexOutOfBoundsException {
+        return set((long) index, item);
+    }
+
+    /**
+     * Gets the value from a given index of the BigDynamicArray
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return (T) page(index)[offset(index)];
+    }
+
+    /**
+     * Gets the value from a given index of the BigDynamicArray
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T get(int index) throws IndexOutOfBoundsException {
+        return get((long) index);
+    }
+
+    /**
+     * Returns the number of elements, or `Integer.MAX_VALUE` if there are more
+     * (see `longSize`)
+     *
+     * @return The size of the BigDynamicArray
+     */
+    public int size() {
+        return (int) Math.min(this.count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an iterator that walks the pages in order
+     *
+     * @return The iterator
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** The next index to return */
+            long cursor = 0;
+            /** The `modCount` this iterator expects */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() {
+                return this.cursor < count;
+            }
+
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != this.expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (this.cursor >= count) {
+                    throw new NoSuchElementException();
+                }
+                long index = this.cursor++;
+                return (T) page(index)[offset(index)];
+            }
+        };
+    }
+
+    /**
+     * Returns a `Spliterator` over the items that knows the `long` size
+     *
+     * @return The spliterator (ORDERED and SIZED)
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), this.count, Spliterator.ORDERED);
+    }
+
+    /**
+     * Writes the items as `[a, b, c]`, summarizing the items after
+     * `maxElements` (counting them with `long`)
+     *
+     * @param out         Where the text goes
+     * @param maxElements The most items to write out in full
+     * @throws IOException              if `out` fails
+     * @throws IllegalArgumentException if `maxElements` is negative
+     */
+    public void formatTo(Appendable out, int maxElements) throws IOException, IllegalArgumentException {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements must not be negative.");
+        }
+        long shown = Math.min(this.count, maxElements);
+        out.append('[');
+        for (long i = 0; i < shown; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(page(i)[offset(i)]));
+        }
+        // Summarize whatever did not fit
+        if (shown < this.count) {
+            if (shown > 0) {
+                out.append(", ");
+            }
+            out.append("... (").append(Long.toString(this.count - shown)).append(" more)");
+        }
+        out.append(']');
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the BigDynamicArray (adding a page if the
+     * last one is full)
+     *
+     * @param item The new item to be added
+     */
+    public void add(T item) {
+        ensureCapacity(this.count + 1);
+        page(this.count)[offset(this.count)] = item;
+        this.count++;
+        this.modCount++;
+    }
+
+    /**
+     * Adds an item at the specified index, shifting every item after it to
+     * the right by 1 (one block copy per page)
+     *
+     * @param index The specific index
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(long index, T item) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.count) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        ensureCapacity(this.count + 1);
+        moveRange(index, index + 1, this.count - index);
+        page(index)[offset(index)] = item;
+        this.count++;
+        this.modCount++;
+    }
+
+    /**
+     * Adds an item at the specified index, shifting every item after it to
+     * the right by 1
+     *
+     * @param index The specific index
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        add((long) index, item);
+    }
+
+    /**
+     * Removes an item at a specified index, shifting subsequent items to the
+     * left (one block copy per page)
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T remove(long index) throws IndexOutOfBoundsException {
+        T removed = get(index);
+        moveRange(index + 1, index, this.count - index - 1);
+        clearRange(this.count - 1, this.count);
+        this.count--;
+        this.modCount++;
+        trimPages();
+        return removed;
+    }
+
+    /**
+     * Removes an item at a specified index, shifting subsequent items to the
+     * left
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T remove(int index) throws IndexOutOfBoundsException {
+        return remove((long) index);
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays into a new BigDynamicArray
+     *
+     * @param secondDA The second Dynamic Array (any implementation)
+     * @return The resulting BigDynamicArray
+     */
+    public BigDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        BigDynamicArray<T> newDA = emptyLike();
+        newDA.appendRange(this, 0, this.count);
+        newDA.appendAll(secondDA);
+        return newDA;
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index, into a new BigDynamicArray
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted (any implementation)
+     * @return The resulting BigDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> insert(long index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.count) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        BigDynamicArray<T> result = emptyLike();
+        // 1. Elements before the index, 2. the inserted elements, 3. the rest
+        result.appendRange(this, 0, index);
+        result.appendAll(newDA);
+        result.appendRange(this, index, this.count);
+        return result;
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index, into a new BigDynamicArray
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted (any implementation)
+     * @return The resulting BigDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        return insert((long) index, newDA);
+    }
+
+    /**
+     * Returns a copy of the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public BigDynamicArray<T> sublist(long fromIndex, long toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        BigDynamicArray<T> result = emptyLike();
+        result.appendRange(this, fromIndex, toIndex);
+        return result;
+    }
+
+    /**
+     * Returns a copy of the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public BigDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist((long) fromIndex, (long) toIndex);
+    }
+
+    /**
+     * Returns the elements before a specified index as a new BigDynamicArray
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> splitPrefix(long toIndex) throws IndexOutOfBoundsException {
+        if (toIndex < 0) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements before a specified index as a new BigDynamicArray
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return splitPrefix((long) toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after as a new
+     * BigDynamicArray
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> splitSuffix(long fromIndex) throws IndexOutOfBoundsException {
+        if (fromIndex > this.count) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        return sublist(fromIndex, this.count);
+    }
+
+    /**
+     * Returns the elements from a specified index and after as a new
+     * BigDynamicArray
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new BigDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public BigDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        return splitSuffix((long) fromIndex);
+    }
+
+    /**
+     * Returns a new BigDynamicArray without the items in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting BigDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public BigDynamicArray<T> delete(long fromIndex, long toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        BigDynamicArray<T> result = emptyLike();
+        result.appendRange(this, 0, fromIndex);
+        result.appendRange(this, toIndex, this.count);
+        return result;
+    }
+
+    /**
+     * Returns a new BigDynamicArray without the items in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting BigDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public BigDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return delete((long) fromIndex, (long) toIndex);
+    }
+
+    /**
+     * Creates a new BigDynamicArray from a specified range (the same as
+     * `sublist`)
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public BigDynamicArray<T> extract(long fromIndex, long toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new BigDynamicArray from a specified range (the same as
+     * `sublist`)
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new BigDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public BigDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return extract((long) fromIndex, (long) toIndex);
+    }
+}
@@ -0,0 +1,120 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BigDynamicArrayTests {
+
+    private BigDynamicArray<Integer> numbers;
+
+    /**
+     * Initializes an array holding 0..9 in pages of 4 elements, so that every
+     * test crosses page boundaries. Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        numbers = range(10);
+    }
+
+    /**
+     * Builds an array with pages of 4 elements holding 0..count-1
+     */
+    public BigDynamicArray<Integer> range(int count) {
+        BigDynamicArray<Integer> result = new BigDynamicArray<>(2);
+        for (int i = 0; i < count; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    // ~*~*~*~*~ Page Tests Below ~*~*~*~*~
+    /**
+     * Tests that growing adds whole pages and removing gives them back
+     */
+    @Test
+    public void testGrowsByPages() {
+        assertEquals(10L, numbers.longSize());
+        assertEquals(12L, numbers.capacity());
+        numbers.add(10);
+        numbers.add(11);
+        numbers.add(12);
+        assertEquals(16L, numbers.capacity());
+        while (numbers.longSize() > 1) {
+            numbers.remove(numbers.longSize() - 1);
+        }
+        // The page holding the element and one spare
+        assertEquals(8L, numbers.capacity());
+        assertEquals("[0]", numbers.toString());
+        BigDynamicArray<Integer> defaultPages = new BigDynamicArray<>();
+        defaultPages.add(0);
+        assertEquals(16384L, defaultPages.capacity());
+    }
+
+    /**
+     * Tests that adds and removes in the middle shift across pages like a list
+     */
+    @Test
+    public void testShiftsMatchList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        BigDynamicArray<Integer> actual = new BigDynamicArray<>(2);
+        for (int step = 0; step < 2000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual.add((long) index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove((long) index));
+            }
+        }
+        assertEquals(expected.toString(), actual.toString());
+        List<Integer> iterated = new ArrayList<>();
+        actual.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    /**
+     * Tests that `long` indices past the `int` range are rejected, not wrapped
+     */
+    @Test
+    public void testLongIndices() {
+        assertEquals(Integer.valueOf(7), numbers.get(7L));
+        assertEquals(Integer.valueOf(7), numbers.set(7L, -7));
+        assertEquals(Integer.valueOf(-7), numbers.get(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.get(1L << 32));
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.add(1L << 32, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.sublist(0L, 1L << 32));
+        assertThrows(IllegalArgumentException.class, () -> numbers.delete(5L, 4L));
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests the whole-array operations across page boundaries
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2]", numbers.append(range(3)).toString());
+        assertEquals("[0, 1, 2, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", numbers.insert(3, numbers.sublist(0, 3)).toString());
+        assertEquals("[3, 4, 5, 6, 7]", numbers.sublist(3, 8).toString());
+        assertEquals("[0, 1, 2, 8, 9]", numbers.delete(3L, 8L).toString());
+        assertEquals("[0, 1, 2, 3, 4]", numbers.splitPrefix(5).toString());
+        assertEquals("[9]", numbers.splitSuffix(9L).toString());
+        assertEquals("[]", numbers.extract(4, 4).toString());
+        // Any implementation can be appended
+        assertEquals("[8, 9, 7, 8, 9]", numbers.splitSuffix(8).append(PersistentDynamicArray.of(7, 8, 9)).toString());
+    }
+
+    /**
+     * Tests that the long-aware summary counts the items left out
+     */
+    @Test
+    public void testFormatTo() throws Exception {
+        StringBuilder out = new StringBuilder();
+        numbers.formatTo(out, 3);
+        assertEquals("[0, 1, 2, ... (7 more)]", out.toString());
+        assertEquals(10L, numbers.stream().count());
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Receives the failed bounds checks of a `DynamicArray`, for debugging.
+ * No listener is installed by default, so a failed check costs nothing beyond
+ * the comparison itself (see `DynamicArray.setBoundsListener`).
+ */
+@FunctionalInterface
+public interface BoundsListener {
+    /** Prints each failed check to standard output */
+    BoundsListener PRINT = (index, low, length) -> System.out
+            .println("low: " + low + ", index: " + index + ", length: " + length);
+
+    /**
+     * Called when an index is outside [low, length)
+     *
+     * @param index  The index that was checked
+     * @param low    The lowest valid index
+     * @param length The length of the `DynamicArray`
+     */
+    void outOfBounds(int index, int low, int length);
+}
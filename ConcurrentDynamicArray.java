@@ -0,0 +1,434 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe `DynamicArrayADT` for read-mostly workloads.
+ * Reads (`get`, `size`, `sublist`, ...) first try an optimistic `StampedLock`
+ * read, which takes no lock at all and is only retried under a read lock if a
+ * writer changed the structure meanwhile, so readers never block each other.
+ * `add`/`remove` take the exclusive lock; `set` only takes a shared lock since
+ * it does not move any elements.
+ */
+public class ConcurrentDynamicArray<T> implements DynamicArrayADT<T> {
+    /** Reads and writes array elements with release/acquire ordering */
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** Guards the structure (`storage` and `size`) */
+    private final StampedLock lock = new StampedLock();
+    /** The elements in [0, size) */
+    private Object[] storage;
+    /** The number of elements in the ConcurrentDynamicArray */
+    private int size;
+    /** Decides how much the storage grows when it is full */
+    private volatile GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /** Decides when the storage gives back unused space after a removal */
+    private volatile ShrinkPolicy shrinkPolicy = ShrinkPolicy.DEFAULT;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty ConcurrentDynamicArray with room for
+     * `capacity` elements
+     *
+     * @param capacity The initial capacity
+     */
+    public ConcurrentDynamicArray(int capacity) {
+        this.storage = new Object[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Private constructor that takes ownership of an array of elements
+     */
+    private ConcurrentDynamicArray(Object[] elements) {
+        this.storage = elements;
+        this.size = elements.length;
+    }
+
+    /**
+     * Private utility to copy the elements of any Dynamic Array. Other
+     * ConcurrentDynamicArrays are copied as one consistent snapshot.
+     */
+    private static Object[] elementsOf(DynamicArrayADT<?> dynamicArray) {
+        if (dynamicArray instanceof ConcurrentDynamicArray) {
+            return ((ConcurrentDynamicArray<?>) dynamicArray).toArray();
+        }
+        Object[] elements = new Object[dynamicArray.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = dynamicArray.get(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Returns a consistent copy of the elements
+     *
+     * @return A new array holding the elements in order
+     */
+    public Object[] toArray() {
+        long stamp = this.lock.tryOptimisticRead();
+        Object[] copy = Arrays.copyOf(this.storage, Math.min(this.size, this.storage.length));
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                copy = Arrays.copyOf(this.storage, this.size);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces the policy used to grow the storage when it is full
+     *
+     * @param growthPolicy The new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to shrink the storage after removals
+     *
+     * @param shrinkPolicy The new shrink policy
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range against a size
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex, int size)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `ConcurrentDynamicArray`
+     */
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value.
+     * Only takes a shared lock, so sets do not wait for each other or for readers.
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T item) throws IndexOutOfBoundsException {
+        long stamp = this.lock.readLock();
+        try {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException(indexErrorMessage);
+            }
+            return (T) ELEMENTS.getAndSet(this.storage, index, item);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gets the value from a given index without blocking (unless a writer is
+     * changing the structure at the same moment)
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException {
+        // 1. Optimistic read: the fields may be inconsistent, so guard every access
+        long stamp = this.lock.tryOptimisticRead();
+        Object[] elements = this.storage;
+        int currentSize = this.size;
+        Object item = 0 <= index && index < currentSize && index < elements.length
+                ? ELEMENTS.getAcquire(elements, index)
+                : null;
+        if (!this.lock.validate(stamp)) {
+            // 2. A writer got in the way: read again under the read lock
+            stamp = this.lock.readLock();
+            try {
+                elements = this.storage;
+                currentSize = this.size;
+                item = 0 <= index && index < currentSize ? ELEMENTS.getAcquire(elements, index) : null;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return (T) item;
+    }
+
+    /**
+     * Returns the actual number of elements in the ConcurrentDynamicArray
+     *
+     * @return The size of the ConcurrentDynamicArray
+     */
+    public int size() {
+        long stamp = this.lock.tryOptimisticRead();
+        int currentSize = this.size;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                currentSize = this.size;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Private utility to make room for one more element (write lock held)
+     */
+    private void growForOne() {
+        if (this.size == this.storage.length) {
+            this.storage = Arrays.copyOf(this.storage, this.growthPolicy.grow(this.storage.length, this.size + 1));
+        }
+    }
+
+    /**
+     * Adds an item to the end of the ConcurrentDynamicArray
+     *
+     * @param item The new item to be added
+     */
+    public void add(T item) {
+        long stamp = this.lock.writeLock();
+        try {
+            growForOne();
+            this.storage[this.size] = item;
+            this.size++;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds an item to the ConcurrentDynamicArray at the specified index
+     * Shifts every item after the index to the right by 1
+     *
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException(indexErrorMessage);
+            }
+            growForOne();
+            System.arraycopy(this.storage, index, this.storage, index + 1, this.size - index);
+            this.storage[index] = item;
+            this.size++;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) throws IndexOutOfBoundsException {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException(indexErrorMessage);
+            }
+            T removedItem = (T) this.storage[index];
+            System.arraycopy(this.storage, index + 1, this.storage, index, this.size - index - 1);
+            this.size--;
+            this.storage[this.size] = null;
+            // Give back storage if the shrink policy says so
+            int newCapacity = this.shrinkPolicy.shrink(this.storage.length, this.size);
+            if (newCapacity < this.storage.length) {
+                this.storage = Arrays.copyOf(this.storage, Math.max(newCapacity, this.size));
+            }
+            return removedItem;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /* ITERATION */
+    /**
+     * Returns an iterator over a snapshot of the elements, so it never fails
+     * and never sees a half-finished change
+     *
+     * @return The snapshot iterator
+     */
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the elements
+     *
+     * @return The snapshot spliterator
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays into a new ConcurrentDynamicArray
+     *
+     * @param secondDA The second Dynamic Array
+     * @return The resulting ConcurrentDynamicArray
+     */
+    public ConcurrentDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        Object[] first = toArray();
+        Object[] second = elementsOf(secondDA);
+        Object[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return new ConcurrentDynamicArray<>(result);
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index, into a new ConcurrentDynamicArray
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted
+     * @return The resulting ConcurrentDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public ConcurrentDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        Object[] current = toArray();
+        checkRange(index, current.length, current.length);
+        Object[] inserted = elementsOf(newDA);
+        Object[] result = new Object[current.length + inserted.length];
+        // 1. Copy elements before the index, 2. the inserted elements, 3. the rest
+        System.arraycopy(current, 0, result, 0, index);
+        System.arraycopy(inserted, 0, result, index, inserted.length);
+        System.arraycopy(current, index, result, index + inserted.length, current.length - index);
+        return new ConcurrentDynamicArray<>(result);
+    }
+
+    /**
+     * Returns a copy of the elements in a specified range, read optimistically
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new ConcurrentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public ConcurrentDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        // 1. Optimistic copy, only attempted when the range looks valid
+        long stamp = this.lock.tryOptimisticRead();
+        Object[] elements = this.storage;
+        int currentSize = this.size;
+        Object[] copy = null;
+        if (0 <= fromIndex && fromIndex <= toIndex && toIndex <= currentSize && toIndex <= elements.length) {
+            copy = Arrays.copyOfRange(elements, fromIndex, toIndex);
+        }
+        if (!this.lock.validate(stamp)) {
+            // 2. A writer got in the way: copy again under the read lock
+            stamp = this.lock.readLock();
+            try {
+                currentSize = this.size;
+                checkRange(fromIndex, toIndex, currentSize);
+                copy = Arrays.copyOfRange(this.storage, fromIndex, toIndex);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        checkRange(fromIndex, toIndex, currentSize);
+        return new ConcurrentDynamicArray<>(copy);
+    }
+
+    /**
+     * Returns the elements before a specified index
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new ConcurrentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public ConcurrentDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new ConcurrentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public ConcurrentDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        Object[] current = toArray();
+        checkRange(fromIndex, current.length, current.length);
+        return new ConcurrentDynamicArray<>(Arrays.copyOfRange(current, fromIndex, current.length));
+    }
+
+    /**
+     * Deletes items at a specified range, into a new ConcurrentDynamicArray
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting ConcurrentDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public ConcurrentDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        Object[] current = toArray();
+        checkRange(fromIndex, toIndex, current.length);
+        Object[] result = new Object[current.length - (toIndex - fromIndex)];
+        // 1. Copy elements before fromIndex, 2. elements from toIndex on
+        System.arraycopy(current, 0, result, 0, fromIndex);
+        System.arraycopy(current, toIndex, result, fromIndex, current.length - toIndex);
+        return new ConcurrentDynamicArray<>(result);
+    }
+
+    /**
+     * Creates a new ConcurrentDynamicArray from a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new ConcurrentDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public ConcurrentDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
@@ -0,0 +1,115 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ConcurrentDynamicArrayTests {
+
+    private ConcurrentDynamicArray<Integer> numbers;
+
+    /**
+     * Initializes a concurrent array holding 0..9 to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        numbers = new ConcurrentDynamicArray<>(0);
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+    }
+
+    // ~*~*~*~*~ Single-Thread Tests Below ~*~*~*~*~
+    /**
+     * Tests the basic operations on one thread
+     */
+    @Test
+    public void testBasicOperations() {
+        assertEquals(10, numbers.size());
+        assertEquals(Integer.valueOf(3), numbers.set(3, 30));
+        numbers.add(0, -1);
+        assertEquals(Integer.valueOf(9), numbers.remove(10));
+        assertEquals("[-1, 0, 1, 2, 30, 4, 5, 6, 7, 8]", numbers.toString());
+    }
+
+    /**
+     * Tests that reading past the elements throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        numbers.get(10);
+    }
+
+    /**
+     * Tests that whole-array operations return independent copies
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        ConcurrentDynamicArray<Integer> middle = numbers.sublist(3, 6);
+        numbers.set(4, 40);
+        assertEquals("[3, 4, 5]", middle.toString());
+        assertEquals("[0, 1, 3, 4, 5, 2, 3, 40, 5, 6, 7, 8, 9]", numbers.insert(2, middle).toString());
+        assertEquals("[0, 1, 2, 7, 8, 9]", numbers.delete(3, 7).toString());
+        assertEquals("[8, 9, 3, 4, 5]", numbers.splitSuffix(8).append(middle).toString());
+        assertEquals("[]", numbers.splitPrefix(0).toString());
+    }
+
+    /**
+     * Tests that an iterator keeps the snapshot it started with
+     */
+    @Test
+    public void testSnapshotIterator() {
+        int sum = 0;
+        for (int item : numbers) {
+            numbers.add(item);
+            sum += item;
+        }
+        assertEquals(45, sum);
+        assertEquals(20, numbers.size());
+    }
+
+    // ~*~*~*~*~ Multi-Thread Tests Below ~*~*~*~*~
+    /**
+     * Tests that readers always see whole elements while writers insert and remove
+     */
+    @Test
+    public void testConcurrentReadersAndWriters() throws InterruptedException {
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    numbers.add(0, 100);
+                    numbers.remove(0);
+                    numbers.add(7);
+                }
+            }));
+        }
+        for (int r = 0; r < 4; r++) {
+            threads.add(new Thread(() -> {
+                while (!done.get()) {
+                    // Each writer removes at most one element it added, so this index stays valid
+                    Integer item = numbers.get(numbers.size() - 3);
+                    if (item == null || numbers.sublist(0, 10).size() != 10) {
+                        failed.set(true);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> failed.set(true));
+            thread.start();
+        }
+        threads.get(0).join();
+        threads.get(1).join();
+        done.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed.get());
+        assertEquals(40010, numbers.size());
+    }
+}
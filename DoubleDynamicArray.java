@@ -0,0 +1,374 @@
+/**
+ * A `DynamicArray` specialized for primitive `double` values.
+ * The values are stored unboxed in an `double[]`, so each element takes
+ * 8 bytes and reading one does not follow a pointer to a `Double`.
+ */
+public class DoubleDynamicArray {
+    /** The number of elements in the DoubleDynamicArray */
+    int size;
+    /** The available storage within the DoubleDynamicArray */
+    double[] storage;
+    /** Decides how much the storage grows when it is full */
+    GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /** Decides when the storage gives back unused space after a removal */
+    ShrinkPolicy shrinkPolicy = ShrinkPolicy.DEFAULT;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty DoubleDynamicArray with room for
+     * `capacity` elements
+     * 
+     * @param capacity The initial capacity
+     */
+    public DoubleDynamicArray(int capacity) {
+        this.storage = new double[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Makes a deep copy of an existing DoubleDynamicArray
+     * 
+     * @param original The original DoubleDynamicArray
+     */
+    public DoubleDynamicArray(DoubleDynamicArray original) {
+        this(original.storage, 0, original.size);
+        this.growthPolicy = original.growthPolicy;
+        this.shrinkPolicy = original.shrinkPolicy;
+    }
+
+    /**
+     * Private constructor that copies a range of a primitive array
+     * 
+     * @param source    The array to copy from
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     */
+    private DoubleDynamicArray(double[] source, int fromIndex, int toIndex) {
+        this.size = toIndex - fromIndex;
+        this.storage = new double[this.size];
+        System.arraycopy(source, fromIndex, this.storage, 0, this.size);
+    }
+
+    /**
+     * Makes a DoubleDynamicArray holding a copy of the given values
+     * 
+     * @param values The values, in order
+     * @return The new DoubleDynamicArray
+     */
+    public static DoubleDynamicArray of(double... values) {
+        return new DoubleDynamicArray(values, 0, values.length);
+    }
+
+    /**
+     * Private utility to move the elements into storage of a new capacity
+     * 
+     * @param newCapacity The capacity of the new storage
+     */
+    private void resize(int newCapacity) {
+        double[] tempArr = new double[newCapacity];
+        System.arraycopy(this.storage, 0, tempArr, 0, this.size);
+        this.storage = tempArr;
+    }
+
+    /**
+     * Returns how many elements the current storage can hold before it has to grow
+     * 
+     * @return The capacity of the storage
+     */
+    public int capacity() {
+        return this.storage.length;
+    }
+
+    /**
+     * Grows the storage (using the growth policy) so that it can hold at least
+     * `minCapacity` elements without reallocating
+     * 
+     * @param minCapacity The required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.storage.length) {
+            resize(this.growthPolicy.grow(this.storage.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the storage so that it holds exactly the elements of the DoubleDynamicArray
+     */
+    public void trimToSize() {
+        if (this.storage.length > this.size) {
+            resize(this.size);
+        }
+    }
+
+    /**
+     * Replaces the policy used to grow the storage when it is full
+     * 
+     * @param growthPolicy The new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to shrink the storage after removals
+     * 
+     * @param shrinkPolicy The new shrink policy
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Checks to see if an index holds an element of the DoubleDynamicArray
+     * 
+     * @param index The specified index
+     * @return True/False - If the index is within the DoubleDynamicArray
+     */
+    public boolean indexInRange(int index) {
+        return 0 <= index && index < this.size;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Returns a copy of the elements as a plain `double[]`
+     * 
+     * @return The elements, in order
+     */
+    public double[] toArray() {
+        double[] result = new double[this.size];
+        System.arraycopy(this.storage, 0, result, 0, this.size);
+        return result;
+    }
+
+    /**
+     * Create a String representation of the current `DoubleDynamicArray`
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder((int) Math.min(2L + 4L * this.size, GrowthPolicy.MAX_CAPACITY)).append('[');
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.storage[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value
+     * 
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public double set(int index, double item) throws IndexOutOfBoundsException {
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        double previousItem = this.storage[index];
+        this.storage[index] = item;
+        return previousItem;
+    }
+
+    /**
+     * Gets the value from a given index of the DoubleDynamicArray
+     * 
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public double get(int index) throws IndexOutOfBoundsException {
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return this.storage[index];
+    }
+
+    /**
+     * Returns the actual number of elements in the DoubleDynamicArray
+     * 
+     * @return The size of the DoubleDynamicArray
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the DoubleDynamicArray
+     * 
+     * @param item The new item to be added
+     */
+    public void add(double item) {
+        ensureCapacity(this.size + 1);
+        this.storage[this.size] = item;
+        this.size++;
+    }
+
+    /**
+     * Adds an item to the DoubleDynamicArray at the specified index
+     * Shifts every item after the index to the right by 1
+     * 
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, double item) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        ensureCapacity(this.size + 1);
+        // Shift all subsequent elements to the right by 1
+        System.arraycopy(this.storage, index, this.storage, index + 1, this.size - index);
+        this.storage[index] = item;
+        this.size++;
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     * 
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public double remove(int index) throws IndexOutOfBoundsException {
+        double removedItem = get(index);
+        // Shift all subsequent elements to the left by 1
+        System.arraycopy(this.storage, index + 1, this.storage, index, this.size - index - 1);
+        this.size--;
+        // Give back storage if the shrink policy says so
+        int newCapacity = this.shrinkPolicy.shrink(this.storage.length, this.size);
+        if (newCapacity < this.storage.length) {
+            resize(Math.max(newCapacity, this.size));
+        }
+        return removedItem;
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two DoubleDynamicArrays
+     * 
+     * @param secondDA The second DoubleDynamicArray
+     * @return The resulting DoubleDynamicArray
+     */
+    public DoubleDynamicArray append(DoubleDynamicArray secondDA) {
+        return insert(this.size, secondDA);
+    }
+
+    /**
+     * Inserts a DoubleDynamicArray into the current one at a specified index
+     * 
+     * @param index The specific index for insertion
+     * @param newDA The DoubleDynamicArray to be inserted
+     * @return The resulting DoubleDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public DoubleDynamicArray insert(int index, DoubleDynamicArray newDA) throws IndexOutOfBoundsException {
+        checkRange(index, this.size);
+        DoubleDynamicArray fullDA = new DoubleDynamicArray(this.size + newDA.size);
+        // 1. Copy elements before the index, 2. the inserted elements, 3. the rest
+        System.arraycopy(this.storage, 0, fullDA.storage, 0, index);
+        System.arraycopy(newDA.storage, 0, fullDA.storage, index, newDA.size);
+        System.arraycopy(this.storage, index, fullDA.storage, index + newDA.size, this.size - index);
+        fullDA.size = this.size + newDA.size;
+        return fullDA;
+    }
+
+    /**
+     * Returns a copy of the current DoubleDynamicArray in a specified range
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public DoubleDynamicArray sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return new DoubleDynamicArray(this.storage, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the elements before a specified index as a new DoubleDynamicArray
+     * 
+     * @param toIndex The ending index (Exclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public DoubleDynamicArray splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after as a new DoubleDynamicArray
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public DoubleDynamicArray splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(0, fromIndex);
+        return sublist(fromIndex, this.size);
+    }
+
+    /**
+     * Deletes items at a specified range in the current DoubleDynamicArray
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A copy of the resulting DoubleDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public DoubleDynamicArray delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        int removed = toIndex - fromIndex;
+        DoubleDynamicArray newDA = new DoubleDynamicArray(this.size - removed);
+        // 1. Copy elements before fromIndex, 2. elements from toIndex on
+        System.arraycopy(this.storage, 0, newDA.storage, 0, fromIndex);
+        System.arraycopy(this.storage, toIndex, newDA.storage, fromIndex, this.size - toIndex);
+        newDA.size = this.size - removed;
+        return newDA;
+    }
+
+    /**
+     * Creates a new DoubleDynamicArray from a specified range of the current one
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new DoubleDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public DoubleDynamicArray extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
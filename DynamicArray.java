@@ -1,8 +1,34 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
 /**
  * This Class is based on Java's built-in Array,
  * adds functionality to it, similar to that of Java ArrayLists
  */
-public class DynamicArray<T> implements DynamicArrayADT<T> {
+public class DynamicArray<T> implements DynamicArrayADT<T>, AutoCloseable {
     /** The length of the DynamicArray */
     int length;
     /** The available storage within the DynamicArray */
@@ -13,307 +39,1999 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
     int high; // highest index
     /** Defaul Index Error Message */
     String indexErrorMessage = "Invalid index.";
+    /** Decides how much the storage grows when it is full */
+    GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /** Decides when the storage gives back unused space after a removal */
+    ShrinkPolicy shrinkPolicy = ShrinkPolicy.DEFAULT;
+    /** Whether edits go through a gap buffer (see `setGapBuffer`) */
+    boolean gapBuffer;
+    /** The index at which the gap starts (the edit cursor) */
+    int gapStart;
+    /** The number of unused slots in the gap (0 when there is no gap) */
+    int gapSize;
+    /** Whether the storage is used as a circular ring (see `setRingBuffer`) */
+    boolean ringBuffer;
+    /** The position in `storage` holding index 0 (0 unless in ring mode or a view) */
+    int head;
+    /**
+     * The Dynamic Arrays (views and the arrays they were made from) that may use
+     * `storage`, held weakly so that dropped views stop counting; `null` while
+     * no other array was given `storage`. Storage is copied before a write only
+     * while another of them is alive and still uses it.
+     */
+    List<WeakReference<DynamicArray<?>>> sharers;
+    /** Counts structural changes (adds/removes) so iterators can fail fast */
+    int modCount;
+    /** Ranges of at most this many items are processed sequentially by the parallel operations */
+    int parallelThreshold = 8192;
+    /** The pool the parallel operations run on */
+    ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+    /** Where resizes and operation timings are reported (`null` = not measured) */
+    DynamicArrayMetrics metrics;
+    /** Receives failed bounds checks (`null` = no diagnostics) */
+    static volatile BoundsListener boundsListener;
+    /** Whether lookups go through a value -> indices hash index (see `setHashIndex`) */
+    boolean hashIndexEnabled;
+    /** Each value -> the sorted indices holding it (`null` until the first lookup) */
+    HashMap<Object, Positions> hashIndex;
+    /** The `modCount` the hash index is current for */
+    int hashIndexModCount;
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make Dynamic Array of a specific size/length
+     * 
+     * @param length The specified length
+     */
+    public DynamicArray(int length) {
+        this.length = length;
+        this.storage = allocate(length);
+        this.low = 0; // By default, the lowest index is 0
+        this.high = -1; // In the beginning, the highest index is -1
+    }
+
+    /**
+     * Basic constructor to make Dynamic Array of a specific length
+     * 
+     * @param lowIndex  The lowest index
+     * @param highIndex The highest index
+     */
+    public DynamicArray(int lowIndex, int highIndex) {
+        this.storage = allocate(highIndex - lowIndex + 1);
+        this.low = lowIndex;
+        this.high = highIndex;
+    }
+
+    /**
+     * Creates a view of an existing `DynamicArray`. The view and the original
+     * share `storage` until either of them is written to.
+     * 
+     * @param original The original `DynamicArray`
+     * @param newStart The starting index of the copy
+     * @param newEnd   The ending index of the copy
+     */
+    public DynamicArray(DynamicArray<T> original, int newStart, int newEnd) {
+        this.storage = original.storage;
+        this.length = original.length;
+        this.low = newStart;
+        this.high = newEnd;
+        this.gapBuffer = original.gapBuffer;
+        this.gapStart = original.gapStart;
+        this.gapSize = original.gapSize;
+        this.ringBuffer = original.ringBuffer;
+        this.head = original.head;
+        original.shareWith(this);
+    }
+
+    /**
+     * Private constructor for `view`: takes existing storage instead of
+     * allocating any
+     *
+     * @param storage The storage to use
+     * @param length  The number of elements
+     */
+    private DynamicArray(T[] storage, int length) {
+        this.storage = storage;
+        this.length = length;
+        this.low = 0;
+        this.high = length - 1;
+    }
+
+    /**
+     * Makes a deep copy of an existing Dynamic Array
+     * 
+     * @param original The original Dynamic Array
+     */
+    public DynamicArray(DynamicArray<T> original) {
+        this.length = original.length;
+        this.low = original.low;
+        this.high = original.high;
+        this.growthPolicy = original.growthPolicy;
+        this.shrinkPolicy = original.shrinkPolicy;
+        this.gapBuffer = original.gapBuffer;
+        this.ringBuffer = original.ringBuffer;
+        this.storage = allocate(original.length);
+        // Copy each element over
+        for (int i = original.low; i <= original.high; i++) {
+            this.set(i, original.get(i));
+        }
+    }
+
+    /**
+     * Private utility to do array allocation (borrowed from this thread's
+     * `DynamicArrayPool`, if one is installed)
+     */
+    @SuppressWarnings("unchecked")
+    private T[] allocate(int len) {
+        return (T[]) DynamicArrayPool.borrow(len);
+    }
+
+    /**
+     * Private utility to allocate storage that will replace the current one,
+     * recording the resize in the metrics (every storage change goes through here)
+     *
+     * @param newCapacity The capacity of the new storage
+     * @param copied      The number of elements that will be moved into it
+     */
+    private T[] reallocate(int newCapacity, int copied) {
+        T[] newStorage = allocate(newCapacity);
+        if (this.metrics != null) {
+            this.metrics.recordResize(this.storage.length, newCapacity, copied);
+        }
+        return newStorage;
+    }
+
+    /**
+     * Private utility to count the storage of a Dynamic Array made by a
+     * whole-array operation in the metrics
+     *
+     * @param result The new Dynamic Array
+     * @return The same Dynamic Array
+     */
+    private DynamicArray<T> recordResult(DynamicArray<T> result) {
+        if (this.metrics != null) {
+            this.metrics.recordAllocation(result.storage.length);
+        }
+        return result;
+    }
+
+    /**
+     * Private utility to give storage that is being replaced back to this
+     * thread's `DynamicArrayPool` (unless a view still uses it)
+     */
+    private void recycle(T[] oldStorage) {
+        if (!sharesStorage()) {
+            DynamicArrayPool.recycle(oldStorage);
+        }
+    }
+
+    /**
+     * Private utility to move the elements into storage of a new capacity
+     * 
+     * @param newCapacity The capacity of the new storage
+     */
+    private void resize(int newCapacity) {
+        int copied = Math.min(this.length, newCapacity);
+        T[] tempArr = reallocate(newCapacity, copied);
+        copyRange(0, tempArr, 0, copied);
+        recycle(this.storage);
+        this.storage = tempArr;
+        this.gapSize = 0;
+        this.head = 0;
+        this.sharers = null;
+    }
+
+    /**
+     * Block-copies elements into another array, whatever the layout
+     * (the elements before the gap, then the ones after it)
+     * 
+     * @param fromIndex   The first index to copy
+     * @param target      The array to copy into
+     * @param targetIndex The position in `target` for the first element
+     * @param count       The number of elements to copy
+     */
+    void copyRange(int fromIndex, Object[] target, int targetIndex, int count) {
+        int before = Math.max(0, Math.min(this.gapStart - fromIndex, count));
+        copyOut(fromIndex, target, targetIndex, before);
+        copyOut(fromIndex + before, target, targetIndex + before, count - before);
+    }
+
+    /**
+     * Private utility to copy elements that are not split by the gap into
+     * another array (wrapping around the ring if needed)
+     * 
+     * @param fromIndex   The first index to copy
+     * @param target      The array to copy into
+     * @param targetIndex The position in `target` for the first element
+     * @param count       The number of elements to copy
+     */
+    private void copyOut(int fromIndex, Object[] target, int targetIndex, int count) {
+        if (count > 0) {
+            int position = slot(fromIndex);
+            int first = Math.min(count, this.storage.length - position);
+            System.arraycopy(this.storage, position, target, targetIndex, first);
+            System.arraycopy(this.storage, 0, target, targetIndex + first, count - first);
+        }
+    }
+
+    /**
+     * Private utility to put the elements back in plain order (no gap, no
+     * wrap-around) so that blocks of them can be moved with `System.arraycopy`
+     */
+    private void flatten() {
+        unshare();
+        if (this.head != 0 || this.gapSize > 0) {
+            resize(this.storage.length);
+        }
+    }
+
+    /**
+     * Private utility to make a copy-on-write view of the elements in
+     * [fromIndex, toIndex) in O(1). The view and this `DynamicArray` share
+     * `storage` until either of them is written to.
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The view
+     */
+    private DynamicArray<T> view(int fromIndex, int toIndex) {
+        DynamicArray<T> view = new DynamicArray<>(this.storage, toIndex - fromIndex);
+        view.growthPolicy = this.growthPolicy;
+        view.shrinkPolicy = this.shrinkPolicy;
+        // Index i of the view is index fromIndex + i here, so shift the gap and head
+        view.gapStart = this.gapStart - fromIndex;
+        view.gapSize = this.gapSize;
+        view.head = this.storage.length == 0 ? 0 : (this.head + fromIndex) % this.storage.length;
+        shareWith(view);
+        return view;
+    }
+
+    /**
+     * Private utility to record that another `DynamicArray` now uses `storage`,
+     * so that whichever of the two is written to first copies it
+     *
+     * @param other The `DynamicArray` given the storage
+     */
+    private void shareWith(DynamicArray<T> other) {
+        if (this.sharers == null) {
+            this.sharers = new ArrayList<>();
+            this.sharers.add(new WeakReference<>(this));
+        } else if (Integer.bitCount(this.sharers.size()) == 1) {
+            // Now and then, forget the arrays that are gone or have moved on
+            this.sharers.removeIf(ref -> {
+                DynamicArray<?> sharer = ref.get();
+                return sharer == null || sharer.storage != this.storage;
+            });
+        }
+        this.sharers.add(new WeakReference<>(other));
+        other.sharers = this.sharers;
+    }
+
+    /**
+     * Private utility to check whether another live `DynamicArray` still uses
+     * `storage` (forgetting the sharers once none does)
+     *
+     * @return True/False - If `storage` must not be written in place or recycled
+     */
+    private boolean sharesStorage() {
+        if (this.sharers == null) {
+            return false;
+        }
+        for (WeakReference<DynamicArray<?>> ref : this.sharers) {
+            DynamicArray<?> other = ref.get();
+            if (other != null && other != this && other.storage == this.storage) {
+                return true;
+            }
+        }
+        this.sharers = null;
+        return false;
+    }
+
+    /**
+     * Private utility to give this `DynamicArray` its own storage before a write,
+     * if a live view (or the array it was made from) still uses the same storage.
+     * A view whose layout the plain write paths cannot handle (shifted head
+     * without ring mode, or a gap without gap mode) is laid out plainly as well,
+     * even once it is the only user of its storage.
+     */
+    private void unshare() {
+        if (sharesStorage() || (this.head != 0 && !this.ringBuffer) || (this.gapSize > 0 && !this.gapBuffer)) {
+            resize(retainsTooMuch() ? this.length : this.storage.length);
+        }
+    }
+
+    /**
+     * Private utility to check whether `storage` is more than twice as large as needed
+     * 
+     * @return True/False - If compacting would free most of the storage
+     */
+    private boolean retainsTooMuch() {
+        return this.storage.length > 2 * this.length;
+    }
+
+    /**
+     * Copies the elements into storage of their own size if the current storage
+     * is more than twice as large as needed. Call this on a small view that is
+     * kept for a long time, so it does not keep a huge shared storage alive.
+     * 
+     * @return True/False - If the storage was replaced
+     */
+    public boolean compact() {
+        if (retainsTooMuch()) {
+            resize(this.length);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Private utility to find where an index lives in `storage`
+     * (indices at or after the gap are stored past it)
+     * 
+     * @param index The specified index
+     * @return The position in `storage`
+     */
+    private int slot(int index) {
+        int position = (index < this.gapStart ? index : index + this.gapSize) + this.head;
+        // In ring mode, positions past the end wrap around to the front
+        return position < this.storage.length ? position : position - this.storage.length;
+    }
+
+    /**
+     * Returns how many elements the current storage can hold before it has to grow
+     * 
+     * @return The capacity of the storage
+     */
+    public int capacity() {
+        return this.storage.length;
+    }
+
+    /**
+     * Grows the storage (using the growth policy) so that it can hold at least
+     * `minCapacity` elements without reallocating
+     * 
+     * @param minCapacity The required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.storage.length) {
+            resize(this.growthPolicy.grow(this.storage.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the storage so that it holds exactly the length of the `DynamicArray`
+     */
+    public void trimToSize() {
+        if (this.storage.length > this.length) {
+            resize(this.length);
+        }
+    }
+
+    /**
+     * Replaces the policy used to grow the storage when it is full
+     * 
+     * @param growthPolicy The new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to shrink the storage after removals
+     * 
+     * @param shrinkPolicy The new shrink policy
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Starts (or stops, with `null`) reporting resizes and operation timings.
+     * Several `DynamicArray`s can share one group, e.g.
+     * `setMetrics(DynamicArrayMetrics.group("orders"))`.
+     * 
+     * @param metrics The metrics to report to
+     */
+    public void setMetrics(DynamicArrayMetrics metrics) {
+        if (this.metrics != null) {
+            this.metrics.detach(this);
+        }
+        this.metrics = metrics;
+        if (metrics != null) {
+            metrics.attach(this);
+        }
+    }
+
+    /**
+     * Turns the gap-buffer mode on or off.
+     * In gap-buffer mode the free space is kept as a gap at the last edited index,
+     * so `add(int, T)` and `remove(int)` near the previous edit only move the
+     * elements between the two edits instead of every subsequent element.
+     * 
+     * @param enabled True to keep a gap at the edit cursor, false for a plain array
+     */
+    public void setGapBuffer(boolean enabled) {
+        unshare();
+        if (enabled) {
+            setRingBuffer(false); // The two layouts cannot be combined
+        } else if (this.gapSize > 0) {
+            // Move the gap behind the last element, where it is ordinary spare capacity
+            moveGap(this.length);
+            this.gapSize = 0;
+        }
+        this.gapBuffer = enabled;
+    }
+
+    /**
+     * Turns the ring-buffer layout on or off.
+     * In ring mode index 0 can sit anywhere in `storage` and the elements wrap
+     * around its end, so adding or removing at either end (`addFirst`,
+     * `removeFirst`, `removeLast`, `add(0, T)`, `remove(0)`) is amortized O(1),
+     * and other positions only shift the elements on the shorter side.
+     * 
+     * @param enabled True to use the ring layout, false for a plain array
+     */
+    public void setRingBuffer(boolean enabled) {
+        unshare();
+        if (enabled) {
+            setGapBuffer(false); // The two layouts cannot be combined
+        } else if (this.head != 0) {
+            // Unwrap the ring so index 0 is back at the start of storage
+            resize(this.storage.length);
+        }
+        this.ringBuffer = enabled;
+    }
+
+    /**
+     * Private utility for `add(int, T)` in ring-buffer mode
+     * 
+     * @param index The specific index
+     * @param item  The item to be added
+     */
+    private void ringAdd(int index, T item) {
+        boolean full = this.size() >= this.length;
+        if (full && this.length == this.storage.length) {
+            resize(this.growthPolicy.grow(this.storage.length, this.length + 1));
+        }
+        if (index < this.length / 2) {
+            // Closer to the front: step the head back and shift the front part left
+            this.head = (this.head == 0 ? this.storage.length : this.head) - 1;
+            for (int i = 0; i < index; i++) {
+                this.storage[slot(i)] = this.storage[slot(i + 1)];
+            }
+            if (!full && this.length < this.storage.length) {
+                // The empty slot at the end is pushed out, like in the plain layout
+                this.storage[slot(this.length)] = null;
+            }
+        } else {
+            // Closer to the back: shift the back part right
+            for (int i = this.high; i >= index; i--) {
+                this.storage[slot(i + 1)] = this.storage[slot(i)];
+            }
+        }
+        this.storage[slot(index)] = item;
+        if (full) {
+            this.length++; // Update length
+        }
+        this.high++; // Update highest index
+    }
+
+    /**
+     * Private utility for `remove(int)` in ring-buffer mode
+     * 
+     * @param index The specific index
+     * @return The element previously at that index
+     */
+    private T ringRemove(int index) {
+        T removedItem = this.storage[slot(index)];
+        if (index < this.size() / 2) {
+            // Closer to the front: shift the front part right and step the head forward
+            for (int i = index; i > 0; i--) {
+                this.storage[slot(i)] = this.storage[slot(i - 1)];
+            }
+            this.storage[this.head] = null;
+            this.head = this.head + 1 == this.storage.length ? 0 : this.head + 1;
+        } else if (index <= this.high) {
+            // Closer to the back: shift the back part left
+            for (int i = index; i < this.high; i++) {
+                this.storage[slot(i)] = this.storage[slot(i + 1)];
+            }
+            this.storage[slot(this.high)] = null;
+        }
+        this.length--; // Update length
+        this.high--; // Update highest index
+        return removedItem;
+    }
+
+    /**
+     * Adds an item to the front of the Dynamic Array
+     * (amortized O(1) in ring-buffer mode)
+     * 
+     * @param item The new item to be added
+     */
+    public void addFirst(T item) {
+        if (this.length == 0) {
+            this.add(item);
+        } else {
+            this.add(0, item);
+        }
+    }
+
+    /**
+     * Removes the first item of the Dynamic Array
+     * (O(1) in ring-buffer mode)
+     * 
+     * @return The element previously at the front
+     * @throws IndexOutOfBoundsException if the Dynamic Array is empty
+     */
+    public T removeFirst() throws IndexOutOfBoundsException {
+        if (this.size() == 0) {
+            throw new IndexOutOfBoundsException("The Dynamic Array is empty.");
+        }
+        return this.remove(this.low);
+    }
+
+    /**
+     * Removes the last item of the Dynamic Array
+     * 
+     * @return The element previously at the end
+     * @throws IndexOutOfBoundsException if the Dynamic Array is empty
+     */
+    public T removeLast() throws IndexOutOfBoundsException {
+        if (this.size() == 0) {
+            throw new IndexOutOfBoundsException("The Dynamic Array is empty.");
+        }
+        return this.remove(this.high);
+    }
+
+    /**
+     * Private utility to move the gap so that it starts at `index`.
+     * Only the elements between the old and new position are moved.
+     * 
+     * @param index The new start of the gap
+     */
+    private void moveGap(int index) {
+        if (this.gapSize > 0) {
+            if (index < this.gapStart) {
+                // Elements [index, gapStart) move to just after the gap
+                System.arraycopy(this.storage, index, this.storage, index + this.gapSize, this.gapStart - index);
+                Arrays.fill(this.storage, index, Math.min(index + this.gapSize, this.gapStart), null);
+            } else if (index > this.gapStart) {
+                // Elements after the gap, up to the new index, move to before it
+                int gapEnd = this.gapStart + this.gapSize;
+                System.arraycopy(this.storage, gapEnd, this.storage, this.gapStart, index - this.gapStart);
+                Arrays.fill(this.storage, Math.max(index, gapEnd), index + this.gapSize, null);
+            }
+        }
+        this.gapStart = index;
+    }
+
+    /**
+     * Private utility to give an empty gap some room, using the spare capacity
+     * after the last element or growing the storage (using the growth policy)
+     */
+    private void openGap() {
+        int spare = this.storage.length - this.length;
+        T[] target = this.storage;
+        if (spare == 0) {
+            target = reallocate(this.growthPolicy.grow(this.storage.length, this.length + 1), this.length);
+            System.arraycopy(this.storage, 0, target, 0, this.gapStart);
+            spare = target.length - this.length;
+        }
+        // Elements after the cursor move to the end, leaving the spare slots in between
+        System.arraycopy(this.storage, this.gapStart, target, this.gapStart + spare, this.length - this.gapStart);
+        if (target == this.storage) {
+            Arrays.fill(this.storage, this.gapStart, Math.min(this.gapStart + spare, this.length), null);
+        } else {
+            recycle(this.storage);
+        }
+        this.storage = target;
+        this.gapSize = spare;
+    }
+
+    /**
+     * Private utility for `add(int, T)` in gap-buffer mode
+     * 
+     * @param index The specific index
+     * @param item  The item to be added
+     */
+    private void gapAdd(int index, T item) {
+        boolean full = this.size() >= this.length;
+        moveGap(index);
+        if (this.gapSize == 0) {
+            openGap();
+        }
+        // Fill the first slot of the gap
+        this.storage[this.gapStart] = item;
+        this.gapStart++;
+        this.gapSize--;
+        if (full) {
+            this.length++; // Update length
+        } else {
+            // The empty slot at the end is pushed out, like in the plain layout
+            this.storage[slot(this.length)] = null;
+        }
+        this.high++; // Update highest index
+    }
+
+    /**
+     * Private utility for `remove(int)` in gap-buffer mode
+     * 
+     * @param index The specific index
+     * @return The element previously at that index
+     */
+    private T gapRemove(int index) {
+        moveGap(index);
+        // The removed slot becomes part of the gap
+        int removedSlot = this.gapStart + this.gapSize;
+        T removedItem = this.storage[removedSlot];
+        this.storage[removedSlot] = null;
+        this.gapSize++;
+        this.length--; // Update length
+        this.high--; // Update highest index
+        return removedItem;
+    }
+
+    /**
+     * Returns the lowest accessible index of an Dynamic Array
+     * 
+     * @param dynamicArray The Dynamic Array
+     * @return The lowest index
+     */
+    public int lowIndex(DynamicArray<T> dynamicArray) {
+        return low;
+    }
+
+    /**
+     * Returns the highest accessible index of an Dynamic Array
+     * 
+     * @param dynamicArray The Dynamic Array
+     * @return The lowest index
+     */
+    public int highIndex(DynamicArray<T> dynamicArray) {
+        return high;
+    }
+
+    /**
+     * Checks to see if an index is accessible within a Dynamic Array
+     * 
+     * @param index The specified index
+     * @return True/False - If the index is within the Dynamic Array
+     */
+    public boolean indexInRange(int index) {
+        if (inRange(index)) {
+            return true;
+        }
+        reportOutOfBounds(index);
+        return false;
+    }
+
+    /**
+     * Private utility for the bounds check itself: only compares, so the JIT
+     * can merge or hoist it out of loops
+     * 
+     * @param index The specified index
+     * @return True/False - If the index is within the Dynamic Array
+     */
+    private boolean inRange(int index) {
+        return this.low <= index && index < this.length;
+    }
+
+    /**
+     * Private utility to pass a failed bounds check to the listener (if any).
+     * Kept out of the checks so they stay small enough to inline.
+     * 
+     * @param index The index that failed the check
+     */
+    private void reportOutOfBounds(int index) {
+        BoundsListener listener = boundsListener;
+        if (listener != null) {
+            listener.outOfBounds(index, this.low, this.length);
+        }
+    }
+
+    /**
+     * Private utility to make the exception for an index that failed a check.
+     * Its message is only built if someone asks for it.
+     * 
+     * @param index The index that failed the check
+     * @return The exception to throw
+     */
+    private IndexOutOfBoundsException outOfBounds(int index) {
+        reportOutOfBounds(index);
+        return new IndexError(index, this.indexErrorMessage);
+    }
+
+    /**
+     * Private utility to make the exception for a [fromIndex, toIndex) range
+     * that failed a check, reporting whichever end is out of bounds
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The exception to throw
+     */
+    private IndexOutOfBoundsException outOfBounds(int fromIndex, int toIndex) {
+        return outOfBounds(fromIndex < this.low || fromIndex > this.length ? fromIndex : toIndex);
+    }
+
+    /**
+     * An `IndexOutOfBoundsException` that builds its message lazily
+     */
+    private static class IndexError extends IndexOutOfBoundsException {
+        /** Serialization version of the exception */
+        private static final long serialVersionUID = 1L;
+        /** The index that failed the check */
+        private final int index;
+        /** The message that follows the index */
+        private final String reason;
+
+        /**
+         * Basic constructor that only stores the parts of the message
+         */
+        IndexError(int index, String reason) {
+            this.index = index;
+            this.reason = reason;
+        }
+
+        /**
+         * Builds the message from the index and the reason
+         */
+        @Override
+        public String getMessage() {
+            return "The index is: " + this.index + this.reason;
+        }
+    }
+
+    /**
+     * Installs (or removes, with `null`) the listener that receives every failed
+     * bounds check of every `DynamicArray`, e.g. `BoundsListener.PRINT`
+     * 
+     * @param listener The listener
+     */
+    public static void setBoundsListener(BoundsListener listener) {
+        boundsListener = listener;
+    }
+
+    /**
+     * Create a String representation of the current `DynamicArray`
+     * (in one pass into a builder sized for the items, see `formatTo`)
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder((int) Math.min(2L + 3L * this.size(), GrowthPolicy.MAX_CAPACITY));
+        try {
+            formatTo(builder, Integer.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // A StringBuilder never throws
+        }
+        return builder.toString();
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value
+     * 
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item (or, `null` if index was previously empty)
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T set(int index, T item) throws IndexOutOfBoundsException {
+        // Check index validity
+        if (inRange(index)) {
+            unshare(); // Copy first if a view shares the storage
+            int position = slot(index);
+            T previousItem = this.storage[position]; // Stores previous item
+            this.storage[position] = item; // Changes value
+            // Keep a current hash index current
+            if (this.hashIndex != null && this.hashIndexModCount == this.modCount && index <= this.high) {
+                Positions previous = this.hashIndex.get(previousItem);
+                previous.remove(index);
+                if (previous.size == 0) {
+                    this.hashIndex.remove(previousItem);
+                }
+                this.hashIndex.computeIfAbsent(item, key -> new Positions()).insert(index);
+            }
+            return previousItem;
+        } else {
+            throw outOfBounds(index);
+        }
+    }
+
+    /**
+     * Gets the value from a given index of the Dynamic Array
+     * 
+     * @param index The specified index
+     * @return The value at the given index in the Dynamic Array
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T get(int index) throws IndexOutOfBoundsException {
+        // Check index validity
+        if (inRange(index)) {
+            return this.storage[slot(index)];
+        } else {
+            throw outOfBounds(index);
+        }
+    }
+
+    /**
+     * Returns the actual number of elements in a Dynamic Array
+     * 
+     * @return The size of the Dynamic Array
+     */
+    public int size() {
+        return high - low + 1;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the Dynamic Array
+     * 
+     * @param item The new item to be added
+     */
+    public void add(T item) {
+        long start = this.metrics == null ? 0 : System.nanoTime();
+        unshare(); // Copy first if a view shares the storage
+        this.modCount++;
+        // Case 1: There is space to store the new item
+        if (this.size() < this.length) {
+            this.set(high + 1, item); // Put the item next to the current highest index
+            this.high++; // Update highest index
+        }
+        // Case 2: Ring buffer => wraps around instead of growing when there is room
+        else if (this.ringBuffer) {
+            ringAdd(this.length, item);
+        }
+        // Case 3: Gap buffer with spare capacity after the last element
+        else if (this.gapBuffer && this.length + this.gapSize < this.storage.length) {
+            this.storage[this.length + this.gapSize] = item;
+            this.length++; // Update length
+            this.high++; // Update highest index
+        }
+        // Case 4: Gap buffer without room at the end => grow through the gap
+        else if (this.gapBuffer) {
+            gapAdd(this.length, item);
+        }
+        // Case 5: There is NOT ENOUGH space to store the new item
+        else {
+            // Make sure the storage has room for one more (grows by the policy, not by 1)
+            ensureCapacity(this.length + 1);
+            // Set final element to item
+            this.storage[this.length] = item;
+            this.length++; // Update length
+            this.high++; // Update highest index
+        }
+        // Keep a hash index that was current before this add current
+        if (this.hashIndex != null && this.hashIndexModCount == this.modCount - 1) {
+            this.hashIndex.computeIfAbsent(item, key -> new Positions()).append(this.high);
+            this.hashIndexModCount = this.modCount;
+        }
+        if (this.metrics != null) {
+            this.metrics.recordOperation(DynamicArrayMetrics.Operation.ADD, start, 0);
+        }
+    }
+
+    /**
+     * Adds an item to the Dynamic Array at the specified index
+     * Shifts every item after the index to the right by 1
+     * 
+     * @param index The specific index
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        // Check index validity
+        if (inRange(index)) {
+            long start = this.metrics == null ? 0 : System.nanoTime();
+            unshare(); // Copy first if a view shares the storage
+            this.modCount++;
+            // Gap buffer: only move the elements between the cursor and the index
+            if (this.gapBuffer) {
+                gapAdd(index, item);
+            }
+            // Ring buffer: only shift the elements on the shorter side
+            else if (this.ringBuffer) {
+                ringAdd(index, item);
+            }
+            // Case 1: There is enough space
+            else if (this.size() < this.length) {
+                // Shift all subsequent elements to the right by 1
+                for (int i = high; i >= index; i--) {
+                    this.set(i + 1, this.get(i));
+                }
+                high++; // Update highest index
+                // Set the index's value to the item
+                this.set(index, item);
+            }
+            // Case 2: There is not enough space
+            else {
+                // Make sure the storage has room for one more (grows by the policy, not by 1)
+                ensureCapacity(this.length + 1);
+                // Shift all subsequent elements to the right by 1
+                System.arraycopy(this.storage, index, this.storage, index + 1, this.high - index + 1);
+                // Set item at index
+                this.storage[index] = item;
+                this.length++; // Update length
+                this.high++; // Update highest index
+            }
+            if (this.metrics != null) {
+                this.metrics.recordOperation(DynamicArrayMetrics.Operation.ADD_AT, start, 0);
+            }
+        } else {
+            throw outOfBounds(index);
+        }
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     * 
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException - If the index is less than zero, equal to
+     *                                   the size of the list or greater than the
+     *                                   size of the list.
+     */
+    public T remove(int index) throws IndexOutOfBoundsException {
+        // Check index validity
+        if (inRange(index)) {
+            long start = this.metrics == null ? 0 : System.nanoTime();
+            unshare(); // Copy first if a view shares the storage
+            this.modCount++;
+            // 0. Get removedItem before removal
+            T removedItem;
+            // 1. Shift all elements after the index to the left
+            if (this.gapBuffer) {
+                // Gap buffer: only move the elements between the cursor and the index
+                removedItem = gapRemove(index);
+            } else if (this.ringBuffer) {
+                // Ring buffer: only shift the elements on the shorter side
+                removedItem = ringRemove(index);
+            } else {
+                removedItem = this.get(index);
+                if (index <= this.high) {
+                    System.arraycopy(this.storage, index + 1, this.storage, index, this.high - index);
+                    this.storage[this.high] = null; // Let go of the duplicated last element
+                }
+                this.length--; // Update length
+                this.high--; // Update highest index
+            }
+            // 2. Give back storage if the shrink policy says so
+            int newCapacity = this.shrinkPolicy.shrink(this.storage.length, this.length);
+            if (newCapacity < this.storage.length) {
+                resize(Math.max(newCapacity, this.length));
+            }
+            if (this.metrics != null) {
+                this.metrics.recordOperation(DynamicArrayMetrics.Operation.REMOVE, start, 0);
+            }
+            // 3. Return removed element
+            return removedItem;
+        } else {
+            throw outOfBounds(index);
+        }
+    }
+
+    /* ITERATION */
+    /**
+     * Returns an iterator over the items from the lowest to the highest index.
+     * It reads `storage` directly (no bounds check per item) and throws
+     * `ConcurrentModificationException` if items are added or removed meanwhile.
+     * 
+     * @return The iterator
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** The next index to return */
+            int cursor = low;
+            /** The `modCount` this iterator expects */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() {
+                return this.cursor <= high;
+            }
+
+            public T next() {
+                if (modCount != this.expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (this.cursor > high) {
+                    throw new NoSuchElementException();
+                }
+                return storage[slot(this.cursor++)];
+            }
+        };
+    }
+
+    /**
+     * Returns a `Spliterator` over the items that splits its range in half,
+     * so `stream()` and `parallelStream()` divide the work evenly
+     * 
+     * @return The spliterator (ORDERED, SIZED and SUBSIZED)
+     */
+    public Spliterator<T> spliterator() {
+        return new RangeSpliterator(this.low, this.high + 1, this.modCount);
+    }
+
+    /**
+     * A `Spliterator` over the index range [index, fence) of this `DynamicArray`
+     */
+    private final class RangeSpliterator implements Spliterator<T> {
+        /** The next index to visit */
+        int index;
+        /** One past the last index to visit */
+        final int fence;
+        /** The `modCount` this spliterator expects */
+        final int expectedModCount;
+
+        RangeSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        public Spliterator<T> trySplit() {
+            int mid = (this.index + this.fence) >>> 1;
+            if (mid <= this.index) {
+                return null;
+            }
+            // Hand the first half to the new spliterator and keep the second half
+            Spliterator<T> prefix = new RangeSpliterator(this.index, mid, this.expectedModCount);
+            this.index = mid;
+            return prefix;
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.index >= this.fence) {
+                return false;
+            }
+            action.accept(storage[slot(this.index++)]);
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = this.index; i < this.fence; i++) {
+                action.accept(storage[slot(i)]);
+            }
+            this.index = this.fence;
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /* PARALLEL BULK OPERATIONS */
+    /**
+     * Sets the size of the ranges the parallel operations stop splitting at
+     * 
+     * @param parallelThreshold The number of items (at least 1)
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public void setParallelThreshold(int parallelThreshold) throws IllegalArgumentException {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive.");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Replaces the pool the parallel operations run on
+     * 
+     * @param forkJoinPool The new pool
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Private utility to run `body` for every index from the lowest to the
+     * highest, splitting the range in half on the fork/join pool
+     * 
+     * @param body What to do for one index
+     */
+    private void parallelRange(IntConsumer body) {
+        int expectedModCount = this.modCount;
+        this.forkJoinPool.invoke(new RangeAction(this.low, this.high + 1, body));
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * A fork/join task running an action for every index in [from, to)
+     */
+    private final class RangeAction extends RecursiveAction {
+        /** Serialization version (fork/join tasks are never serialized) */
+        private static final long serialVersionUID = 1L;
+        /** The first index (Inclusive) */
+        final int from;
+        /** The last index (Exclusive) */
+        final int to;
+        /** What to do for one index */
+        final IntConsumer body;
+
+        RangeAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        protected void compute() {
+            if (this.to - this.from <= parallelThreshold) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.body.accept(i);
+                }
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new RangeAction(this.from, mid, this.body), new RangeAction(mid, this.to, this.body));
+            }
+        }
+    }
+
+    /**
+     * A fork/join task combining the items in [from, to).
+     * The range is always split at the same midpoints, so the same items are
+     * combined in the same grouping on every run.
+     */
+    private final class RangeReduce extends RecursiveTask<T> {
+        /** Serialization version */
+        private static final long serialVersionUID = 1L;
+        /** The first index (Inclusive) */
+        final int from;
+        /** The last index (Exclusive) */
+        final int to;
+        /** The starting value of each range */
+        final T identity;
+        /** How two values are combined */
+        final BinaryOperator<T> accumulator;
+
+        RangeReduce(int from, int to, T identity, BinaryOperator<T> accumulator) {
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.accumulator = accumulator;
+        }
+
+        protected T compute() {
+            if (this.to - this.from <= parallelThreshold) {
+                T result = this.identity;
+                for (int i = this.from; i < this.to; i++) {
+                    result = this.accumulator.apply(result, storage[slot(i)]);
+                }
+                return result;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            RangeReduce left = new RangeReduce(this.from, mid, this.identity, this.accumulator);
+            left.fork();
+            T right = new RangeReduce(mid, this.to, this.identity, this.accumulator).compute();
+            return this.accumulator.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * Runs an action on every item, in parallel (in no particular order)
+     * 
+     * @param action The action to run on each item
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+        parallelRange(i -> action.accept(this.storage[slot(i)]));
+    }
+
+    /**
+     * Replaces every item with the result of an operator on it, in parallel
+     * 
+     * @param operator The operator to apply to each item
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        unshare(); // Copy first if a view shares the storage
+        invalidateHashIndex();
+        parallelRange(i -> {
+            int position = slot(i);
+            this.storage[position] = operator.apply(this.storage[position]);
+        });
+    }
+
+    /**
+     * Sets every item to a value computed from its index, in parallel
+     * 
+     * @param generator The function from an index to its new item
+     */
+    public void parallelSetAll(IntFunction<? extends T> generator) {
+        unshare(); // Copy first if a view shares the storage
+        invalidateHashIndex();
+        parallelRange(i -> this.storage[slot(i)] = generator.apply(i));
+    }
+
+    /**
+     * Combines all items into one value, in parallel.
+     * For an associative accumulator the result is the same as a sequential
+     * loop, and it is reproducible because the range is always split the same way.
+     * 
+     * @param identity    The value to start each range with (e.g. 0 for a sum)
+     * @param accumulator How two values are combined
+     * @return The combined value (`identity` if there are no items)
+     */
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+        int expectedModCount = this.modCount;
+        T result = this.forkJoinPool.invoke(new RangeReduce(this.low, this.high + 1, identity, accumulator));
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return result;
+    }
+
+    /* IN-PLACE BULK OPERATIONS */
+    /**
+     * Replaces the items in a specified range of the current `DynamicArray`
+     * with the items of another Dynamic Array, in place.
+     * The elements after the range are moved once, as one block.
+     * 
+     * @param fromIndex   The starting index (Inclusive)
+     * @param toIndex     The ending index (Exclusive)
+     * @param replacement The Dynamic Array whose items go into the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public void replaceRange(int fromIndex, int toIndex, DynamicArrayADT<T> replacement)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        // Check index validity
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < this.low || toIndex > this.high + 1) {
+            throw outOfBounds(fromIndex, toIndex);
+        }
+        this.modCount++;
+        // 0. Replacing with itself => work from a copy
+        if (replacement == this) {
+            replacement = new DynamicArray<>(this);
+        }
+        int added = replacement.size();
+        int delta = added - (toIndex - fromIndex);
+        int oldEnd = this.high + 1;
+        // 1. Make room (one block move of the elements after the range)
+        flatten();
+        ensureCapacity(oldEnd + delta);
+        System.arraycopy(this.storage, toIndex, this.storage, toIndex + delta, oldEnd - toIndex);
+        // 2. Copy the replacement in
+        if (replacement instanceof DynamicArray) {
+            DynamicArray<?> other = (DynamicArray<?>) replacement;
+            other.copyRange(other.low, this.storage, fromIndex, added);
+        } else {
+            for (int i = 0; i < added; i++) {
+                this.storage[fromIndex + i] = replacement.get(i);
+            }
+        }
+        if (delta < 0) {
+            Arrays.fill(this.storage, oldEnd + delta, oldEnd, null); // Let go of the old last elements
+        }
+        // 3. Update indices (like `add`/`remove`, one element at a time)
+        this.high += delta;
+        this.length = delta < 0 ? this.length + delta : Math.max(this.length, this.high + 1);
+        if (delta < 0) {
+            int newCapacity = this.shrinkPolicy.shrink(this.storage.length, this.length);
+            if (newCapacity < this.storage.length) {
+                resize(Math.max(newCapacity, this.length));
+            }
+        }
+    }
+
+    /**
+     * Adds all items of another Dynamic Array at the specified index, in place
+     * 
+     * @param index The specific index (adding at `size()` appends)
+     * @param newDA The Dynamic Array whose items are added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void addAll(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        replaceRange(index, index, newDA);
+    }
+
+    /**
+     * Removes the items in a specified range, in place
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        replaceRange(fromIndex, toIndex, new DynamicArray<T>(0));
+    }
+
+    /**
+     * Sets every item in a specified range to the same value, in place
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @param item      The value for every item in the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public void fill(int fromIndex, int toIndex, T item) throws IndexOutOfBoundsException, IllegalArgumentException {
+        // Check index validity
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < this.low || toIndex > this.length) {
+            throw outOfBounds(fromIndex, toIndex);
+        }
+        flatten();
+        invalidateHashIndex();
+        Arrays.fill(this.storage, fromIndex, toIndex, item);
+    }
 
-    /* CONSTRUCTORS */
     /**
-     * Basic constructor to make Dynamic Array of a specific size/length
+     * Sets every item of the current `DynamicArray` to the same value, in place
      * 
-     * @param length The specified length
+     * @param item The value for every item
      */
-    public DynamicArray(int length) {
-        this.length = length;
-        this.storage = allocate(length);
-        this.low = 0; // By default, the lowest index is 0
-        this.high = -1; // In the beginning, the highest index is -1
+    public void fill(T item) {
+        fill(this.low, this.high + 1, item);
     }
 
+    /* SEARCHING */
     /**
-     * Basic constructor to make Dynamic Array of a specific length
+     * Returns the lowest index holding an item equal to `o`
      * 
-     * @param lowIndex  The lowest index
-     * @param highIndex The highest index
+     * @param o The item to look for (may be `null`)
+     * @return The index, or -1 if no item is equal
      */
-    public DynamicArray(int lowIndex, int highIndex) {
-        this.storage = allocate(highIndex - lowIndex + 1);
-        this.low = lowIndex;
-        this.high = highIndex;
+    public int indexOf(Object o) {
+        if (this.hashIndexEnabled) {
+            Positions positions = hashIndex().get(o);
+            return positions == null ? -1 : positions.first();
+        }
+        // Scan the elements before the gap, then the ones after it
+        int count = this.high + 1 - this.low;
+        int before = Math.max(0, Math.min(this.gapStart - this.low, count));
+        int found = indexOfRange(o, this.low, before);
+        return found >= 0 ? found : indexOfRange(o, this.low + before, count - before);
     }
 
     /**
-     * Creates a view of an existing `DynamicArray`
+     * Returns the highest index holding an item equal to `o`
      * 
-     * @param original The original `DynamicArray`
-     * @param newStart The starting index of the copy
-     * @param newEnd   The ending index of the copy
+     * @param o The item to look for (may be `null`)
+     * @return The index, or -1 if no item is equal
      */
-    public DynamicArray(DynamicArray<T> original, int newStart, int newEnd) {
-        this.storage = original.storage;
-        this.length = original.length;
-        this.low = newStart;
-        this.high = newEnd;
+    public int lastIndexOf(Object o) {
+        if (this.hashIndexEnabled) {
+            Positions positions = hashIndex().get(o);
+            return positions == null ? -1 : positions.last();
+        }
+        // Scan the elements after the gap, then the ones before it
+        int count = this.high + 1 - this.low;
+        int before = Math.max(0, Math.min(this.gapStart - this.low, count));
+        int found = lastIndexOfRange(o, this.low + before, count - before);
+        return found >= 0 ? found : lastIndexOfRange(o, this.low, before);
     }
 
     /**
-     * Makes a deep copy of an existing Dynamic Array
+     * Checks whether any item is equal to `o`
      * 
-     * @param original The original Dynamic Array
+     * @param o The item to look for (may be `null`)
+     * @return True/False - If the `DynamicArray` holds the item
      */
-    public DynamicArray(DynamicArray<T> original) {
-        this.length = original.length;
-        this.low = original.low;
-        this.high = original.high;
-        this.storage = allocate(original.length);
-        // Copy each element over
-        for (int i = original.low; i <= original.high; i++) {
-            this.set(i, original.get(i));
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Private utility to search elements that are not split by the gap,
+     * reading `storage` in (at most two) contiguous blocks
+     * 
+     * @param o         The item to look for
+     * @param fromIndex The first index to search
+     * @param count     The number of elements to search
+     * @return The first matching index, or -1
+     */
+    private int indexOfRange(Object o, int fromIndex, int count) {
+        if (count <= 0) {
+            return -1;
+        }
+        int position = slot(fromIndex);
+        int first = Math.min(count, this.storage.length - position);
+        int found = find(o, position, position + first);
+        if (found >= 0) {
+            return fromIndex + (found - position);
         }
+        found = find(o, 0, count - first);
+        return found >= 0 ? fromIndex + first + found : -1;
     }
 
     /**
-     * Private utility to do array allocation
+     * Private utility to search elements that are not split by the gap from
+     * the back, reading `storage` in (at most two) contiguous blocks
+     * 
+     * @param o         The item to look for
+     * @param fromIndex The first index to search
+     * @param count     The number of elements to search
+     * @return The last matching index, or -1
      */
-    @SuppressWarnings("unchecked")
-    private T[] allocate(int len) {
-        return (T[]) new Object[len];
+    private int lastIndexOfRange(Object o, int fromIndex, int count) {
+        if (count <= 0) {
+            return -1;
+        }
+        int position = slot(fromIndex);
+        int first = Math.min(count, this.storage.length - position);
+        int found = findLast(o, 0, count - first);
+        if (found >= 0) {
+            return fromIndex + first + found;
+        }
+        found = findLast(o, position, position + first);
+        return found >= 0 ? fromIndex + (found - position) : -1;
     }
 
     /**
-     * Returns the lowest accessible index of an Dynamic Array
+     * Private utility to find the first position in [from, to) of `storage`
+     * holding an item equal to `o` (-1 if none)
+     */
+    private int find(Object o, int from, int to) {
+        if (o == null) {
+            for (int i = from; i < to; i++) {
+                if (this.storage[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (o.equals(this.storage[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Private utility to find the last position in [from, to) of `storage`
+     * holding an item equal to `o` (-1 if none)
+     */
+    private int findLast(Object o, int from, int to) {
+        if (o == null) {
+            for (int i = to - 1; i >= from; i--) {
+                if (this.storage[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                if (o.equals(this.storage[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Turns the value -> indices hash index on or off. With it on, `indexOf`,
+     * `lastIndexOf` and `contains` take O(1) after the index is built (lazily,
+     * on the first lookup). Appends and `set` keep it current; any other change
+     * to the items makes the next lookup rebuild it.
      * 
-     * @param dynamicArray The Dynamic Array
-     * @return The lowest index
+     * @param enabled Whether lookups use the hash index
      */
-    public int lowIndex(DynamicArray<T> dynamicArray) {
-        return low;
+    public void setHashIndex(boolean enabled) {
+        this.hashIndexEnabled = enabled;
+        this.hashIndex = null;
     }
 
     /**
-     * Returns the highest accessible index of an Dynamic Array
+     * Private utility to get a current hash index, (re)building it if needed
      * 
-     * @param dynamicArray The Dynamic Array
-     * @return The lowest index
+     * @return The hash index
      */
-    public int highIndex(DynamicArray<T> dynamicArray) {
-        return high;
+    private HashMap<Object, Positions> hashIndex() {
+        if (this.hashIndex == null || this.hashIndexModCount != this.modCount) {
+            HashMap<Object, Positions> index = new HashMap<>();
+            for (int i = this.low; i <= this.high; i++) {
+                index.computeIfAbsent(this.storage[slot(i)], key -> new Positions()).append(i);
+            }
+            this.hashIndex = index;
+            this.hashIndexModCount = this.modCount;
+        }
+        return this.hashIndex;
     }
 
     /**
-     * Checks to see if an index is accessible within a Dynamic Array
+     * Private utility to drop the hash index after the items changed in a way
+     * that does not count as a structural change
+     */
+    private void invalidateHashIndex() {
+        this.hashIndex = null;
+    }
+
+    /**
+     * The sorted indices at which one value is stored, for the hash index
+     */
+    private static class Positions {
+        /** The indices, in increasing order */
+        int[] indices = new int[1];
+        /** The number of indices */
+        int size;
+
+        /**
+         * Adds an index larger than all the others
+         */
+        void append(int index) {
+            if (this.size == this.indices.length) {
+                this.indices = Arrays.copyOf(this.indices, 2 * this.size);
+            }
+            this.indices[this.size++] = index;
+        }
+
+        /**
+         * Adds an index in its sorted place
+         */
+        void insert(int index) {
+            int at = -(Arrays.binarySearch(this.indices, 0, this.size, index) + 1);
+            append(index);
+            System.arraycopy(this.indices, at, this.indices, at + 1, this.size - 1 - at);
+            this.indices[at] = index;
+        }
+
+        /**
+         * Removes an index
+         */
+        void remove(int index) {
+            int at = Arrays.binarySearch(this.indices, 0, this.size, index);
+            System.arraycopy(this.indices, at + 1, this.indices, at, this.size - 1 - at);
+            this.size--;
+        }
+
+        /**
+         * Returns the lowest index
+         */
+        int first() {
+            return this.indices[0];
+        }
+
+        /**
+         * Returns the highest index
+         */
+        int last() {
+            return this.indices[this.size - 1];
+        }
+    }
+
+    /* SORTING */
+    /**
+     * Sorts the items of the current `DynamicArray` in place (stable)
      * 
-     * @param index The specified index
-     * @return True/False - If the index is within the Dynamic Array
+     * @param comparator Decides the order of the items
      */
-    public boolean indexInRange(int index) {
-        if (this.low <= index && index < this.length) {
-            return true;
-        } else {
-            System.out.println("low: " + this.low + ", index: " + index + ", length: " + this.length);
-            return false;
+    public void sort(Comparator<? super T> comparator) {
+        flatten();
+        this.modCount++;
+        Arrays.sort(this.storage, this.low, this.high + 1, comparator);
+    }
+
+    /**
+     * Sorts the items in place using the fork/join pool (stable). Arrays no
+     * larger than the parallel threshold are sorted sequentially.
+     * 
+     * @param comparator Decides the order of the items
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        if (this.size() <= this.parallelThreshold) {
+            sort(comparator);
+            return;
         }
+        flatten();
+        this.modCount++;
+        // Arrays.parallelSort forks into the pool it is called from
+        this.forkJoinPool.invoke(ForkJoinTask.adapt(
+                () -> Arrays.parallelSort(this.storage, this.low, this.high + 1, comparator)));
     }
 
     /**
-     * Create a String representation of the current `DynamicArray`
-     * IM NOT SURE ABOUT CALLING TOSTRING ON A TOSTRING
+     * Searches a sorted `DynamicArray` for an item in O(log n)
+     * 
+     * @param key        The item to look for
+     * @param comparator The order the items are sorted in
+     * @return The index of a matching item, or `-(insertion point) - 1` if there
+     *         is none (like `Arrays.binarySearch`)
      */
-    public String toString() {
-        // Start the full String
-        String finalString = "[";
-        // Copy every element into full String
-        for (int i = this.low; i <= this.high; i++) {
-            if (i == this.high) {
-                finalString += this.get(i);
+    public int binarySearch(T key, Comparator<? super T> comparator) {
+        int from = this.low;
+        int to = this.high;
+        while (from <= to) {
+            int middle = (from + to) >>> 1;
+            int order = comparator.compare(this.storage[slot(middle)], key);
+            if (order < 0) {
+                from = middle + 1;
+            } else if (order > 0) {
+                to = middle - 1;
             } else {
-                finalString += this.get(i) + ", ";
+                return middle;
             }
         }
-        // Return finalString
-        return finalString + "]";
+        return -(from + 1);
     }
 
-    /* GROUP 1: BASIC OPERATIONS */
     /**
-     * Sets the value at the index to a specified value
-     * 
-     * @param index The index at which to change its value
-     * @param item  The new item after setting
-     * @return The previous item (or, `null` if index was previously empty)
-     * @throws IndexOutOfBoundsException for invalid indices
+     * Private utility to find the index after every item that is not larger
+     * than `key` (so equal items keep the order they were added in)
      */
-    public T set(int index, T item) throws IndexOutOfBoundsException {
-        // Check index validity
-        if (indexInRange(index)) {
-            T previousItem = this.get(index); // Stores previous item
-            this.storage[index] = item; // Changes value
-            return previousItem;
-        } else {
-            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+    private int upperBound(T key, Comparator<? super T> comparator) {
+        int from = this.low;
+        int to = this.high + 1;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare(this.storage[slot(middle)], key) <= 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
         }
+        return from;
     }
 
     /**
-     * Gets the value from a given index of the Dynamic Array
+     * Adds an item to a sorted `DynamicArray`, keeping it sorted. The position
+     * is found in O(log n); items equal to it stay in front of it.
      * 
-     * @param index The specified index
-     * @return The value at the given index in the Dynamic Array
-     * @throws IndexOutOfBoundsException for invalid indices
+     * @param item       The item to be added
+     * @param comparator The order the items are sorted in
+     * @return The index the item was added at
      */
-    public T get(int index) throws IndexOutOfBoundsException {
-        // Check index validity
-        if (indexInRange(index)) {
-            return this.storage[index];
+    public int addSorted(T item, Comparator<? super T> comparator) {
+        int index = upperBound(item, comparator);
+        if (index > this.high) {
+            this.add(item);
         } else {
-            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+            this.add(index, item);
         }
+        return index;
     }
 
     /**
-     * Returns the actual number of elements in a Dynamic Array
+     * Merges two sorted Dynamic Arrays into a new sorted `DynamicArray` in
+     * linear time (instead of appending and sorting again). On ties the items
+     * of the current `DynamicArray` come first.
      * 
-     * @return The size of the Dynamic Array
+     * @param other      The other sorted `DynamicArray`
+     * @param comparator The order both are sorted in
+     * @return The merged `DynamicArray`
      */
-    public int size() {
-        return high - low + 1;
+    public DynamicArray<T> mergeSorted(DynamicArray<T> other, Comparator<? super T> comparator) {
+        int size = this.size() + other.size();
+        DynamicArray<T> merged = new DynamicArray<>(size);
+        merged.growthPolicy = this.growthPolicy;
+        merged.shrinkPolicy = this.shrinkPolicy;
+        int left = this.low;
+        int right = other.low;
+        for (int i = 0; i < size; i++) {
+            if (right > other.high
+                    || (left <= this.high && comparator.compare(this.storage[this.slot(left)],
+                            other.storage[other.slot(right)]) <= 0)) {
+                merged.storage[i] = this.storage[this.slot(left++)];
+            } else {
+                merged.storage[i] = other.storage[other.slot(right++)];
+            }
+        }
+        merged.high = size - 1;
+        return merged;
     }
 
-    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /* BATCH OPERATIONS */
     /**
-     * Adds an item to the end of the Dynamic Array
+     * Starts a batch of positional edits. Every index given to the batch refers
+     * to the `DynamicArray` as it is now, and `apply()` performs all the edits
+     * in a single pass over the elements, e.g.
+     * `numbers.batch().insert(0, x).remove(5).set(7, y).apply()`.
      * 
-     * @param item The new item to be added
+     * @return The empty batch
      */
-    public void add(T item) {
-        // Case 1: There is space to store the new item
-        if (this.size() < this.length) {
-            this.set(high + 1, item); // Put the item next to the current highest index
-            this.high++; // Update highest index
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Positional inserts, removes and sets recorded against the original
+     * indices of a `DynamicArray`, applied together by `apply()` in
+     * O(n + k log k) for k edits instead of shifting the elements once per edit.
+     */
+    public class Batch {
+        /** The recorded edits, in recording order */
+        private final List<Edit<T>> edits = new ArrayList<>();
+        /** The `modCount` the indices refer to */
+        private int expectedModCount = modCount;
+
+        /**
+         * Private constructor: batches come from `batch()`
+         */
+        private Batch() {
         }
-        // Case 2: There is NOT ENOUGH space to store the new item
-        else {
 
-            // Create an array with larger size
-            T[] tempArr = allocate(this.length + 1);
+        /**
+         * Records an insert before the original item at an index. Several inserts
+         * at the same index keep the order in which they were recorded.
+         * 
+         * @param index The original index (`size()` inserts at the end)
+         * @param item  The item to insert
+         * @return This batch
+         * @throws IndexOutOfBoundsException for invalid indices
+         */
+        public Batch insert(int index, T item) throws IndexOutOfBoundsException {
+            if (index < low || index > high + 1) {
+                throw outOfBounds(index);
+            }
+            this.edits.add(new Edit<>(index, Edit.INSERT, item));
+            return this;
+        }
 
-            // Copy all elements from current `DynamicArray`
-            for (int i = this.low; i <= this.high; i++) {
-                tempArr[i] = this.get(i);
+        /**
+         * Records the removal of the original item at an index
+         * 
+         * @param index The original index
+         * @return This batch
+         * @throws IndexOutOfBoundsException for invalid indices
+         */
+        public Batch remove(int index) throws IndexOutOfBoundsException {
+            if (index < low || index > high) {
+                throw outOfBounds(index);
             }
-            // Set final element to item
-            tempArr[this.length] = item;
+            this.edits.add(new Edit<>(index, Edit.REMOVE, null));
+            return this;
+        }
 
-            // Update the current storage to be tempArr
-            this.storage = tempArr;
-            this.length++; // Update length
-            this.high++; // Update highest index
+        /**
+         * Records a new value for the original item at an index (the last set
+         * of an index wins)
+         * 
+         * @param index The original index
+         * @param item  The new item
+         * @return This batch
+         * @throws IndexOutOfBoundsException for invalid indices
+         */
+        public Batch set(int index, T item) throws IndexOutOfBoundsException {
+            if (index < low || index > high) {
+                throw outOfBounds(index);
+            }
+            this.edits.add(new Edit<>(index, Edit.SET, item));
+            return this;
         }
-    }
 
-    /**
-     * Adds an item to the Dynamic Array at the specified index
-     * Shifts every item after the index to the right by 1
-     * 
-     * @param index The specific index
-     * @param item  The item to be added
-     * @throws IndexOutOfBoundsException for invalid indices
-     */
-    public void add(int index, T item) throws IndexOutOfBoundsException {
-        // Check index validity
-        if (indexInRange(index)) {
-            // Case 1: There is enough space
-            if (this.size() < this.length) {
-                // Shift all subsequent elements to the right by 1
-                for (int i = high; i >= index; i--) {
-                    this.set(i + 1, this.get(i));
+        /**
+         * Applies every recorded edit in one pass and empties the batch
+         * 
+         * @throws IllegalArgumentException        if an index is removed twice, or
+         *                                         both removed and set
+         * @throws ConcurrentModificationException if the `DynamicArray` had items
+         *                                         added or removed since the batch
+         *                                         was started
+         */
+        public void apply() throws IllegalArgumentException, ConcurrentModificationException {
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // 1. Sort by index (inserts first); the sort is stable, so recording order is kept
+            this.edits.sort((a, b) -> a.index != b.index ? Integer.compare(a.index, b.index)
+                    : Integer.compare(a.kind, b.kind));
+            int delta = 0;
+            for (int i = 0; i < this.edits.size(); i++) {
+                Edit<T> edit = this.edits.get(i);
+                if (edit.kind == Edit.INSERT) {
+                    delta++;
+                } else if (edit.kind == Edit.REMOVE) {
+                    delta--;
+                    // Sets sort before removes, so any earlier non-insert at this index conflicts
+                    Edit<T> previous = i > 0 ? this.edits.get(i - 1) : null;
+                    if (previous != null && previous.index == edit.index && previous.kind != Edit.INSERT) {
+                        throw new IllegalArgumentException(
+                                "Index " + edit.index + " is removed twice or removed and set.");
+                    }
                 }
-                high++; // Update highest index
-                // Set the index's value to the item
-                this.set(index, item);
             }
-            // Case 2: There is not enough space
-            else {
-                // Create an array with larger size
-                T[] tempArr = allocate(this.length + 1);
-
-                // Copy all previous elements from current `DynamicArray`
-                for (int i = 0; i < index; i++) {
-                    tempArr[i] = this.get(i);
+            // 2. Pick the new storage capacity
+            flatten();
+            int oldCapacity = storage.length;
+            int newLength = delta < 0 ? length + delta : Math.max(length, high + 1 + delta);
+            int newCapacity = oldCapacity;
+            if (newLength > oldCapacity) {
+                newCapacity = growthPolicy.grow(oldCapacity, newLength);
+            } else if (delta < 0 && shrinkPolicy.shrink(oldCapacity, newLength) < oldCapacity) {
+                newCapacity = Math.max(shrinkPolicy.shrink(oldCapacity, newLength), newLength);
+            }
+            // 3. Merge the old elements and the edits into the new storage
+            T[] target = reallocate(newCapacity, high + 1 - low + delta);
+            int source = low;
+            int destination = low;
+            int next = 0;
+            while (next < this.edits.size()) {
+                int index = this.edits.get(next).index;
+                // Copy the untouched block before the index
+                System.arraycopy(storage, source, target, destination, index - source);
+                destination += index - source;
+                source = index;
+                // Apply the inserts, then the set/remove of the original item
+                Edit<T> last = null;
+                for (; next < this.edits.size() && this.edits.get(next).index == index; next++) {
+                    Edit<T> edit = this.edits.get(next);
+                    if (edit.kind == Edit.INSERT) {
+                        target[destination++] = edit.item;
+                    } else {
+                        last = edit;
+                    }
                 }
+                if (last != null) {
+                    if (last.kind == Edit.SET) {
+                        target[destination++] = last.item;
+                    }
+                    source++;
+                }
+            }
+            System.arraycopy(storage, source, target, destination, high + 1 - source);
+            // 4. Switch to the new storage
+            recycle(storage);
+            storage = target;
+            high += delta;
+            length = newLength;
+            modCount++;
+            this.expectedModCount = modCount;
+            this.edits.clear();
+        }
+    }
 
-                // Set item at index
-                tempArr[index] = item;
+    /**
+     * One edit recorded by a `Batch`
+     */
+    private static class Edit<T> {
+        /** Kind of edit: an insert before the original item */
+        static final int INSERT = 0;
+        /** Kind of edit: a new value for the original item */
+        static final int SET = 1;
+        /** Kind of edit: removal of the original item */
+        static final int REMOVE = 2;
 
-                // Copy all subsequent elements from current `DynamicArray`
-                for (int i = index; i <= this.high; i++) {
-                    tempArr[i + 1] = this.get(i);
-                }
+        /** The original index */
+        final int index;
+        /** INSERT, SET or REMOVE */
+        final int kind;
+        /** The item inserted or set (`null` for a removal) */
+        final T item;
 
-                // Update the current storage to be tempArr
-                this.storage = tempArr;
-                this.length++; // Update length
-                this.high++; // Update highest index
-            }
-        } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+        /**
+         * Basic constructor
+         */
+        Edit(int index, int kind, T item) {
+            this.index = index;
+            this.kind = kind;
+            this.item = item;
         }
     }
 
+    /* STORAGE POOLING */
     /**
-     * Removes an item at a specified index
-     * Shifts subsequent elements to the left
+     * Gives the storage back to this thread's `DynamicArrayPool` (if one is
+     * installed) and leaves the current `DynamicArray` empty. Meant for
+     * temporary Dynamic Arrays that are no longer needed; storage still shared
+     * with a view is not given back.
+     */
+    public void release() {
+        recycle(this.storage);
+        this.storage = allocate(0);
+        this.length = 0;
+        this.high = this.low - 1;
+        this.gapStart = 0;
+        this.gapSize = 0;
+        this.head = 0;
+        this.sharers = null;
+        this.modCount++;
+        invalidateHashIndex();
+    }
+
+    /**
+     * Same as `release`, so that a temporary `DynamicArray` can be declared in
+     * a try-with-resources statement
+     */
+    public void close() {
+        release();
+    }
+
+    /* SERIALIZATION */
+    /**
+     * Writes the current `DynamicArray` to a stream in a binary format,
+     * one chunk at a time. The stream is flushed but not closed.
      * 
-     * @param index The specific index
-     * @return The element previously at that index
-     * @throws IndexOutOfBoundsException - If the index is less than zero, equal to
-     *                                   the size of the list or greater than the
-     *                                   size of the list.
+     * @param out    The stream to write to
+     * @param format The binary format (element codec, chunk size, compression)
+     * @throws IOException if the stream fails
      */
-    public T remove(int index) throws IndexOutOfBoundsException {
-        // Check index validity
-        if (indexInRange(index)) {
-            // 0. Get removedItem before removal
-            T removedItem = this.get(index);
-            // 1. Create a tempArr with smaller size
-            T[] tempArr = allocate(this.length - 1);
-            // 2. Copy all elements before the index
-            for (int i = this.low; i < index; i++) {
-                tempArr[i] = this.get(i);
-            }
-            // 3. Copy all elements after the index
-            for (int i = index; i < this.high; i++) {
-                tempArr[i] = this.get(i + 1);
-            }
-            // 4. Update the current storage to be tempArr
-            this.storage = tempArr;
-            this.length--; // Update length
-            this.high--; // Update highest index
-            // 5. Return removed element
-            return removedItem;
-        } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
-        }
+    public void writeTo(OutputStream out, DynamicArrayFormat<T> format) throws IOException {
+        format.writeTo(this, out);
+    }
+
+    /**
+     * Writes the current `DynamicArray` to a channel in a binary format,
+     * one chunk at a time. The channel is not closed.
+     * 
+     * @param channel The channel to write to
+     * @param format  The binary format (element codec, chunk size, compression)
+     * @throws IOException if the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, DynamicArrayFormat<T> format) throws IOException {
+        format.writeTo(this, channel);
+    }
+
+    /**
+     * Reads a `DynamicArray` written by `writeTo`
+     * 
+     * @param in     The stream to read from
+     * @param format The binary format it was written in
+     * @return The `DynamicArray`
+     * @throws IOException if the stream fails or does not hold a Dynamic Array
+     */
+    public static <T> DynamicArray<T> readFrom(InputStream in, DynamicArrayFormat<T> format) throws IOException {
+        return format.readFrom(in);
+    }
+
+    /**
+     * Reads a `DynamicArray` written by `writeTo`
+     * 
+     * @param channel The channel to read from
+     * @param format  The binary format it was written in
+     * @return The `DynamicArray`
+     * @throws IOException if the channel fails or does not hold a Dynamic Array
+     */
+    public static <T> DynamicArray<T> readFrom(ReadableByteChannel channel, DynamicArrayFormat<T> format)
+            throws IOException {
+        return format.readFrom(channel);
     }
 
     /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Returns a lazy view of the current `DynamicArray` whose whole-array
+     * operations only describe their result, so that a chain of them copies the
+     * elements once, when the result is materialized (see `LazyDynamicArray`)
+     *
+     * @return The lazy view
+     */
+    public LazyDynamicArray<T> lazy() {
+        return LazyDynamicArray.of(this);
+    }
+
     /**
      * Concatenates two Dynamic Arrays
      * 
      * @param secondDA The second Dynamic Array
      * @return The resulting Dynamic Array Object
      */
-    public DynamicArray<T> append(DynamicArray<T> secondDA) {
+    public DynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        long start = this.metrics == null ? 0 : System.nanoTime();
         // 1. Create a newDA with larger size to hold the elements of both Dynamic
         // Arrays
-        DynamicArray<T> newDA = new DynamicArray<>(this.length + secondDA.length);
+        DynamicArray<T> newDA = recordResult(new DynamicArray<>(this.length + secondDA.size()));
         int offset = this.length;
         // 2. Copy over all elements of the current Dynamic Array into newDA
         for (int i = newDA.low; i <= this.high; i++) {
             newDA.set(i, this.get(i));
         }
         // 3. Copy over all elements of secondDA into newDA
-        for (int i = secondDA.low; i <= secondDA.high; i++) {
+        for (int i = 0; i < secondDA.size(); i++) {
             newDA.set(i + offset, secondDA.get(i));
         }
-        // 4. return newDA
+        // 4. Every slot of newDA is now filled
+        newDA.high = newDA.length - 1;
+        if (this.metrics != null) {
+            this.metrics.recordOperation(DynamicArrayMetrics.Operation.APPEND, start, newDA.size());
+        }
+        // 5. return newDA
         return newDA;
     }
 
@@ -325,45 +2043,51 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
      * @return The resulting Dynamic Array Object
      * @throws IndexOutOfBoundsException for invalid indices
      */
-    public DynamicArray<T> insert(int index, DynamicArray<T> newDA) throws IndexOutOfBoundsException {
+    public DynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
         // Check index validity (allows index - 1 if attaching to the end)
-        if ((indexInRange(index - 1) && (index > 0)) || (indexInRange(index))) {
+        if ((inRange(index - 1) && (index > 0)) || (inRange(index))) {
+            long start = this.metrics == null ? 0 : System.nanoTime();
+            DynamicArray<T> fullDA;
             // Check if newDA is empty => Return deep copy of current DynamicArray 
             if (newDA.size() == 0) {
-                DynamicArray<T> fullDA = new DynamicArray<>(this);
-                return fullDA;
-            }
-            int sizeOfBoth = this.size() + newDA.size();
-            // 1. Create a fullDA with larger size to hold elements of both Dynamic Arrays
-            DynamicArray<T> fullDA = new DynamicArray<>(sizeOfBoth);
-            // 2. Copy all elements (from current `DynamicArray`) before the index into
-            // fullDA
-            for (int i = 0; i < index; i++) {
-                fullDA.add(this.get(i));
-                
-            }
-            // 3. Copy all elements of newDA into fullDA
-            for (int i = newDA.low; i < newDA.size(); i++) {
-                fullDA.add(newDA.get(i));
+                fullDA = recordResult(new DynamicArray<>(this));
+            } else {
+                int sizeOfBoth = this.size() + newDA.size();
+                // 1. Create a fullDA with larger size to hold elements of both Dynamic Arrays
+                fullDA = recordResult(new DynamicArray<>(sizeOfBoth));
+                // 2. Copy all elements (from current `DynamicArray`) before the index into
+                // fullDA
+                for (int i = 0; i < index; i++) {
+                    fullDA.add(this.get(i));
+                }
+                // 3. Copy all elements of newDA into fullDA
+                for (int i = 0; i < newDA.size(); i++) {
+                    fullDA.add(newDA.get(i));
+                }
+                // 4. Copy all remaining elements (from current `DynamicArray`) into fullDA
+                for (int i = index; i <= this.high; i++) {
+                    fullDA.add(this.get(i));
+                }
             }
-            // 4. Copy all remaining elements (from current `DynamicArray`) into fullDA
-            for (int i = index; i <= this.high; i++) {
-                fullDA.add(this.get(i));
+            if (this.metrics != null) {
+                this.metrics.recordOperation(DynamicArrayMetrics.Operation.INSERT, start, fullDA.size());
             }
-            // 4. Return fullDA
+            // 5. Return fullDA
             return fullDA;
 
         } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(index);
         }
     }
 
     /**
-     * Returns a view of the current `DynamicArray` in a specified range
+     * Returns a view of the current `DynamicArray` in a specified range.
+     * The view shares storage with the current `DynamicArray` (O(1)) and
+     * whichever of the two is written to first copies it, so they stay independent.
      * 
      * @param fromIndex The starting index (Inclusive)
      * @param toIndex   The ending index (Exclusive)
-     * @return A copy containing the items of the `DynamicArray` within the range
+     * @return A copy-on-write view containing the items within the range
      * @throws IndexOutOfBoundsException for invalid indices
      * @throws IllegalArgumentException  if starting index is larger than ending
      *                                   index
@@ -378,16 +2102,11 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             DynamicArray<T> subArray = new DynamicArray<>(0);
             return subArray;
         }
-        if (indexInRange(fromIndex) && indexInRange(toIndex - 1)) {
-            // Make a new subArray
-            DynamicArray<T> subArray = new DynamicArray<>(toIndex - fromIndex);
-            // Fill in the subArray
-            for (int i = fromIndex; i < toIndex; i++) {
-                subArray.add(this.get(i));
-            }
-            return subArray;
+        if (inRange(fromIndex) && inRange(toIndex - 1)) {
+            // Share the storage instead of copying (copied on the first write)
+            return view(fromIndex, toIndex);
         } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(fromIndex, toIndex);
         }
     }
 
@@ -405,7 +2124,7 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             return newDA;
         }
         else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(toIndex);
         }
     }
 
@@ -418,13 +2137,13 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
     public DynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
         // Check index validity
         
-        if (indexInRange(fromIndex - 1)) {
+        if (inRange(fromIndex - 1)) {
             // Calls sublist()
             DynamicArray<T> newDA = this.sublist(fromIndex, this.size());
             return newDA;
         }
         else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(fromIndex);
         }
     }
 
@@ -443,15 +2162,19 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
         if (fromIndex > toIndex) {
             throw new IllegalArgumentException("Invalid start and end indeces.");
         }
+        long start = this.metrics == null ? 0 : System.nanoTime();
         // If trying to delete nothing => Return a deep copy of the current DynamicArray
         if (fromIndex == toIndex) {
-            DynamicArray<T> sameArray = new DynamicArray<>(this);
+            DynamicArray<T> sameArray = recordResult(new DynamicArray<>(this));
+            if (this.metrics != null) {
+                this.metrics.recordOperation(DynamicArrayMetrics.Operation.DELETE, start, sameArray.size());
+            }
             return sameArray;
         }
-        if (indexInRange(fromIndex) && toIndex <= this.length) {
+        if (inRange(fromIndex) && toIndex <= this.length) {
             int offset = toIndex - fromIndex;
             // 1. Create a newDA with smaller size
-            DynamicArray<T> newDA = new DynamicArray<>(this.size() - (offset));
+            DynamicArray<T> newDA = recordResult(new DynamicArray<>(this.size() - (offset)));
             // 2. Copy all elements before fromIndex
             for (int i = this.low; i < fromIndex; i++) {
                 newDA.add(this.get(i));
@@ -460,10 +2183,13 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             for (int i = toIndex; i < this.size(); i++) {
                 newDA.add(this.get(i));
             }
+            if (this.metrics != null) {
+                this.metrics.recordOperation(DynamicArrayMetrics.Operation.DELETE, start, newDA.size());
+            }
             // 4. Return newDA
             return newDA;
         } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(fromIndex, toIndex);
         }
     }
 
@@ -488,17 +2214,12 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             DynamicArray<T> subArray = new DynamicArray<>(toIndex - fromIndex);
             return subArray;
         }
-        if (indexInRange(fromIndex) && toIndex <= this.length) {
-            // 1. Make deep copy called newDA of original DA
-            DynamicArray<T> newDA = new DynamicArray<>(this);
-            // 2. Make sublist of newDA
-            DynamicArray<T> subArray = sublist(fromIndex, toIndex);
-            // 3. Assign newDA to sublist
-            newDA = subArray;
-            System.out.println("newDA is: " + newDA);
+        if (inRange(fromIndex) && toIndex <= this.length) {
+            // Make a copy-on-write view of the range
+            DynamicArray<T> newDA = sublist(fromIndex, toIndex);
             return newDA;
         } else {
-            throw new IndexOutOfBoundsException(indexErrorMessage);
+            throw outOfBounds(fromIndex, toIndex);
         }
     }
 }
\ No newline at end of file
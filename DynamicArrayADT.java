@@ -1,10 +1,20 @@
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Interface describes the operations supported by a `DynamicArray`.
+ * Whole-array operations return the implementation's own kind of Dynamic Array
+ * (e.g. `DynamicArray` or `RopeDynamicArray`) as a `DynamicArrayADT`.
  * 
  * Arguments for building an Object:
  * public int length;
  */
-public interface DynamicArrayADT<T> {
+public interface DynamicArrayADT<T> extends Iterable<T> {
     /* GROUP 1: BASIC OPERATIONS */
     /**
      * Sets the value at the index to a specified value
@@ -29,6 +39,87 @@ public interface DynamicArrayADT<T> {
      */
     public int size();
 
+    /**
+     * Returns an iterator over the items in index order.
+     * The default reads each item with `get`; implementations can read their
+     * storage directly instead.
+     * @return The iterator
+     */
+    public default Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** The next index to return */
+            int cursor = 0;
+
+            public boolean hasNext() {
+                return this.cursor < size();
+            }
+
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a `Spliterator` over the items that knows its size
+     * @return The spliterator (ORDERED and SIZED)
+     */
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential `Stream` over the items
+     * @return The stream
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel `Stream` over the items
+     * @return The stream (splits as well as `spliterator()` does)
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Writes the items as `[a, b, c]` straight to a `StringBuilder`, `Writer`, etc.
+     * After `maxElements` items the rest are summarized, e.g. `[a, b, ... (4 more)]`,
+     * so even a huge Dynamic Array produces bounded output.
+     * @param out Where the text goes
+     * @param maxElements The most items to write out in full
+     * @throws IOException if `out` fails
+     * @throws IllegalArgumentException if `maxElements` is negative
+     */
+    public default void formatTo(Appendable out, int maxElements) throws IOException, IllegalArgumentException {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements must not be negative.");
+        }
+        int size = size();
+        int shown = Math.min(size, maxElements);
+        out.append('[');
+        Iterator<T> items = iterator();
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(items.next()));
+        }
+        // Summarize whatever did not fit
+        if (shown < size) {
+            if (shown > 0) {
+                out.append(", ");
+            }
+            out.append("... (").append(Integer.toString(size - shown)).append(" more)");
+        }
+        out.append(']');
+    }
+
     /* GROUP 2: ADD/REMOVE ELEMENTS*/
     /**
      * Adds an item to the end of the Dynamic Array
@@ -57,19 +148,19 @@ public interface DynamicArrayADT<T> {
     /* GROUP 3: WHOLE-ARRAY OPERATIONS*/
     /**
      * Concatenates two Dynamic Arrays
-     * @param secondDA The second Dynamic Array
+     * @param secondDA The second Dynamic Array (any implementation)
      * @return The resulting Dynamic Array Object
      */ 
-    public DynamicArray<T> append(DynamicArray<T> secondDA) ;
+    public DynamicArrayADT<T> append(DynamicArrayADT<T> secondDA) ;
     
     /**
      * Inserts new Dynamic Array into current `DynamicArray` at a specified index 
      * @param index The specific index to for insertion
-     * @param newDA The Dynamic Array to be inserted
+     * @param newDA The Dynamic Array to be inserted (any implementation)
      * @return The resulting Dynamic Array Object
      * @throws IndexOutOfBoundsException for invalid indices
      */
-    public DynamicArray<T> insert(int index, DynamicArray<T> newDA) throws IndexOutOfBoundsException;
+    public DynamicArrayADT<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException;
 
     /**
      * Returns a view of the current `DynamicArray` in a specified range
@@ -80,7 +171,7 @@ public interface DynamicArrayADT<T> {
      * @throws IllegalArgumentException  if starting index is larger than ending
      *                                   index
      */
-    public DynamicArray<T> sublist(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
+    public DynamicArrayADT<T> sublist(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
 
     /**
      * Returns the elements before a specified index as a new `DynamicArray`.
@@ -88,7 +179,7 @@ public interface DynamicArrayADT<T> {
      * @return A copy containing the items of the `DynamicArray` within the range
      * @throws IndexOutOfBoundsException for invalid indices
      */
-    public DynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException;
+    public DynamicArrayADT<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException;
 
     /**
      * Returns the elements from a specified index and after as a new `DynamicArray`.
@@ -96,7 +187,7 @@ public interface DynamicArrayADT<T> {
      * @return A copy containing the items of the `DynamicArray` within the range
      * @throws IndexOutOfBoundsException for invalid indices
      */
-    public DynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException;
+    public DynamicArrayADT<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException;
 
     /**
      * Deletes items at a specified range in current `DynamicArray`
@@ -106,7 +197,7 @@ public interface DynamicArrayADT<T> {
      * @throws IndexOutOfBoundsException for invalid indices
      * @throws IllegalArgumentException if the starting index is larger than the ending index
      */
-    public DynamicArray<T> delete(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
+    public DynamicArrayADT<T> delete(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
 
     /**
      * Creates a new Dynamic Array from the ç in a specified range
@@ -116,5 +207,5 @@ public interface DynamicArrayADT<T> {
      * @throws IndexOutOfBoundsException for invalid indices
      * @throws IllegalArgumentException if the starting index is larger than the ending index
      */
-    public DynamicArray<T> extract(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
+    public DynamicArrayADT<T> extract(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
 }
@@ -0,0 +1,370 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * A compact, versioned binary format for Dynamic Arrays that is written and
+ * read in fixed-size chunks, so arrays never have to be held in memory as a
+ * whole and a reader can start before the writer has finished.
+ *
+ * Layout: a header (magic number, version, flags, chunk size), then chunks of
+ * (element count, raw byte length, stored byte length, bytes), then a chunk
+ * with an element count of 0. With compression on, each chunk is deflated on
+ * its own. A chunk holds at most `MAX_CHUNK_BYTES` raw bytes, so a reader never
+ * allocates more than that for one chunk, whatever the stream claims.
+ * A writer that fails part way does not write the end marker, so the
+ * incomplete array is rejected instead of read back truncated.
+ */
+public class DynamicArrayFormat<T> {
+    /** Marks a stream written by DynamicArrayFormat ("DASF") */
+    static final int MAGIC = 0x44415346;
+    /** The newest version of the format this class can read */
+    static final int VERSION = 1;
+    /** Set in the flags when the chunks are deflated */
+    static final int FLAG_COMPRESSED = 1;
+    /** Default number of elements per chunk */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    /** The most raw bytes one chunk may hold (larger chunks are cut early) */
+    public static final int MAX_CHUNK_BYTES = 1 << 26;
+
+    /** How the elements are written */
+    final ElementCodec<T> codec;
+    /** The number of elements per chunk */
+    final int chunkSize;
+    /** Whether each chunk is compressed */
+    final boolean compressed;
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor for an uncompressed format with the default chunk size
+     *
+     * @param codec How the elements are written
+     */
+    public DynamicArrayFormat(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    /**
+     * Constructor to choose the chunk size and compression
+     *
+     * @param codec      How the elements are written
+     * @param chunkSize  The number of elements per chunk
+     * @param compressed Whether each chunk is deflated
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public DynamicArrayFormat(ElementCodec<T> codec, int chunkSize, boolean compressed)
+            throws IllegalArgumentException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        this.codec = codec;
+        this.chunkSize = chunkSize;
+        this.compressed = compressed;
+    }
+
+    /* WRITING */
+    /**
+     * Writes every element of a Dynamic Array to a stream.
+     * The stream is flushed but not closed.
+     *
+     * @param dynamicArray The Dynamic Array to write
+     * @param out          The stream to write to
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(DynamicArrayADT<T> dynamicArray, OutputStream out) throws IOException {
+        ChunkWriter<T> writer = newWriter(out);
+        try {
+            for (T item : dynamicArray) {
+                writer.add(item);
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            // Leave the stream without an end marker so it reads as incomplete
+            writer.abort();
+            throw e;
+        }
+        writer.close();
+    }
+
+    /**
+     * Writes every element of a Dynamic Array to a channel.
+     * The channel is not closed.
+     *
+     * @param dynamicArray The Dynamic Array to write
+     * @param channel      The channel to write to
+     * @throws IOException if the channel fails
+     */
+    public void writeTo(DynamicArrayADT<T> dynamicArray, WritableByteChannel channel) throws IOException {
+        writeTo(dynamicArray, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Starts writing elements one at a time, for arrays that are produced
+     * gradually or are too large to build in memory. Each full chunk is
+     * flushed to the stream as soon as it is complete.
+     *
+     * @param out The stream to write to
+     * @return The writer (close it to write the end of the array)
+     * @throws IOException if the header cannot be written
+     */
+    public ChunkWriter<T> newWriter(OutputStream out) throws IOException {
+        return new ChunkWriter<>(this, out);
+    }
+
+    /**
+     * Writes elements to a stream one chunk at a time
+     */
+    public static class ChunkWriter<T> implements AutoCloseable {
+        /** The format being written */
+        private final DynamicArrayFormat<T> format;
+        /** The stream the chunks go to */
+        private final DataOutputStream target;
+        /** The bytes of the chunk being filled */
+        private final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        /** Writes elements into `chunk` */
+        private final DataOutputStream chunkData = new DataOutputStream(chunk);
+        /** Compresses full chunks (`null` when uncompressed) */
+        private final Deflater deflater;
+        /** Receives the compressed bytes of a chunk */
+        private final ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        /** The number of elements in the chunk being filled */
+        private int count;
+        /** Whether the end of the array has been written */
+        private boolean closed;
+        /** Whether writing failed, so the end marker must not be written */
+        private boolean failed;
+
+        /**
+         * Private constructor that writes the header
+         */
+        private ChunkWriter(DynamicArrayFormat<T> format, OutputStream out) throws IOException {
+            this.format = format;
+            this.target = new DataOutputStream(new BufferedOutputStream(out));
+            this.deflater = format.compressed ? new Deflater() : null;
+            this.target.writeInt(MAGIC);
+            this.target.writeByte(VERSION);
+            this.target.writeByte(format.compressed ? FLAG_COMPRESSED : 0);
+            this.target.writeInt(format.chunkSize);
+        }
+
+        /**
+         * Adds an element, writing out the chunk once it is full
+         *
+         * @param item The element
+         * @throws IOException           if the stream fails
+         * @throws IllegalStateException if the writer has been closed
+         */
+        public void add(T item) throws IOException, IllegalStateException {
+            if (this.closed || this.failed) {
+                throw new IllegalStateException("The writer has been closed.");
+            }
+            try {
+                this.format.codec.write(this.chunkData, item);
+                this.count++;
+                // Cut large chunks early so they stay under the reader's limit
+                if (this.count == this.format.chunkSize || this.chunk.size() >= MAX_CHUNK_BYTES / 2) {
+                    flushChunk();
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        /**
+         * Private utility to write the current chunk (if any) to the stream
+         */
+        private void flushChunk() throws IOException {
+            if (this.count == 0) {
+                return;
+            }
+            if (this.chunk.size() > MAX_CHUNK_BYTES) {
+                throw new IOException("A chunk holds more than " + MAX_CHUNK_BYTES + " bytes.");
+            }
+            // 1. Compress the chunk if asked to
+            ByteArrayOutputStream stored = this.chunk;
+            if (this.deflater != null) {
+                this.deflater.reset();
+                this.deflated.reset();
+                DeflaterOutputStream compressor = new DeflaterOutputStream(this.deflated, this.deflater);
+                this.chunk.writeTo(compressor);
+                compressor.finish();
+                stored = this.deflated;
+            }
+            // 2. Write the chunk header and bytes
+            this.target.writeInt(this.count);
+            this.target.writeInt(this.chunk.size());
+            this.target.writeInt(stored.size());
+            stored.writeTo(this.target);
+            this.target.flush();
+            // 3. Start a new chunk
+            this.chunk.reset();
+            this.count = 0;
+        }
+
+        /**
+         * Stops writing without the end marker, so readers reject the array as
+         * incomplete. Closing afterwards does nothing.
+         */
+        public void abort() {
+            this.failed = true;
+            this.closed = true;
+            if (this.deflater != null) {
+                this.deflater.end();
+            }
+        }
+
+        /**
+         * Writes the last chunk and the end marker, then flushes.
+         * If an element could not be written, nothing more is written.
+         * The underlying stream stays open.
+         *
+         * @throws IOException if the stream fails
+         */
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
+            }
+            if (this.failed) {
+                abort();
+                return;
+            }
+            this.closed = true;
+            try {
+                flushChunk();
+                this.target.writeInt(0);
+                this.target.flush();
+            } catch (IOException | RuntimeException | Error e) {
+                this.failed = true;
+                throw e;
+            } finally {
+                if (this.deflater != null) {
+                    this.deflater.end();
+                }
+            }
+        }
+    }
+
+    /* READING */
+    /**
+     * Reads a Dynamic Array written in this format
+     *
+     * @param in The stream to read from
+     * @return The Dynamic Array
+     * @throws IOException if the stream fails or does not hold a Dynamic Array
+     */
+    public DynamicArray<T> readFrom(InputStream in) throws IOException {
+        DynamicArray<T> result = new DynamicArray<>(0);
+        read(in, result::add);
+        return result;
+    }
+
+    /**
+     * Reads a Dynamic Array written in this format
+     *
+     * @param channel The channel to read from
+     * @return The Dynamic Array
+     * @throws IOException if the channel fails or does not hold a Dynamic Array
+     */
+    public DynamicArray<T> readFrom(ReadableByteChannel channel) throws IOException {
+        return readFrom(Channels.newInputStream(channel));
+    }
+
+    /**
+     * Reads the elements one chunk at a time and hands each to an action as
+     * soon as its chunk arrives, without keeping them. Reads exactly up to the
+     * end marker, so several arrays can follow each other on one stream.
+     *
+     * @param in     The stream to read from
+     * @param action What to do with each element
+     * @return The number of elements read
+     * @throws IOException if the stream fails or does not hold a Dynamic Array
+     */
+    public long read(InputStream in, Consumer<? super T> action) throws IOException {
+        DataInputStream source = new DataInputStream(in);
+        // 1. Check the header
+        if (source.readInt() != MAGIC) {
+            throw new IOException("Not a Dynamic Array stream.");
+        }
+        int version = source.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Unsupported Dynamic Array format version: " + version);
+        }
+        boolean deflated = (source.readUnsignedByte() & FLAG_COMPRESSED) != 0;
+        int chunkSize = source.readInt();
+        if (chunkSize <= 0) {
+            throw new IOException("Corrupt Dynamic Array header.");
+        }
+        // 2. Decode the chunks until the end marker
+        Inflater inflater = deflated ? new Inflater() : null;
+        long total = 0;
+        try {
+            for (int count = source.readInt(); count != 0; count = source.readInt()) {
+                int rawLength = source.readInt();
+                int storedLength = source.readInt();
+                // Check the lengths before allocating anything for them
+                if (count < 0 || count > chunkSize || rawLength < 0 || rawLength > MAX_CHUNK_BYTES
+                        || storedLength < 0 || storedLength > maxStoredLength(deflated, rawLength)) {
+                    throw new IOException("Corrupt Dynamic Array chunk.");
+                }
+                byte[] bytes = new byte[storedLength];
+                source.readFully(bytes);
+                if (inflater != null) {
+                    bytes = inflate(inflater, bytes, rawLength);
+                }
+                DataInputStream chunk = new DataInputStream(new ByteArrayInputStream(bytes));
+                for (int i = 0; i < count; i++) {
+                    action.accept(this.codec.read(chunk));
+                }
+                total += count;
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Private utility to find the most bytes a chunk of `rawLength` raw bytes
+     * can take in the stream (deflating incompressible bytes adds a little)
+     */
+    private static int maxStoredLength(boolean deflated, int rawLength) {
+        return deflated ? rawLength + (rawLength >>> 8) + 64 : rawLength;
+    }
+
+    /**
+     * Private utility to decompress one chunk
+     */
+    private static byte[] inflate(Inflater inflater, byte[] stored, int rawLength) throws IOException {
+        byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(stored);
+        try {
+            int filled = 0;
+            while (filled < rawLength) {
+                int inflated = inflater.inflate(raw, filled, rawLength - filled);
+                if (inflated == 0 && (inflater.needsInput() || inflater.finished())) {
+                    throw new IOException("Corrupt Dynamic Array chunk.");
+                }
+                filled += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt Dynamic Array chunk.", e);
+        }
+        return raw;
+    }
+}
@@ -0,0 +1,340 @@
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Opt-in counters for what `DynamicArray` does internally: resizes, elements
+ * copied, bytes allocated and operation latencies.
+ *
+ * A `DynamicArray` only reports once `setMetrics` is called on it; until then
+ * each instrumented operation costs a single `null` check. Several arrays can
+ * share one named group (see `group`), or an array can get metrics of its own.
+ * Each group can be published as a JMX MXBean, and every resize and operation
+ * is also emitted as a JFR event, which costs nothing unless a recording is
+ * running with the events enabled.
+ */
+public class DynamicArrayMetrics implements DynamicArrayMetricsMXBean {
+    /** Estimated bytes of an array object header */
+    static final long ARRAY_HEADER_BYTES = 16;
+    /** Estimated bytes of one reference (compressed oops) */
+    static final long REFERENCE_BYTES = 4;
+
+    /** The operations that are timed */
+    public enum Operation {
+        ADD, ADD_AT, REMOVE, APPEND, INSERT, DELETE
+    }
+
+    /** The shared named groups */
+    private static final Map<String, DynamicArrayMetrics> GROUPS = new ConcurrentHashMap<>();
+
+    /** The name of the group */
+    private final String name;
+    /** The number of resizes */
+    private final LongAdder resizes = new LongAdder();
+    /** The number of elements copied */
+    private final LongAdder elementsCopied = new LongAdder();
+    /** The estimated bytes allocated */
+    private final LongAdder bytesAllocated = new LongAdder();
+    /** Per operation: how often it ran */
+    private final LongAdder[] counts = adders();
+    /** Per operation: the total nanoseconds it took */
+    private final LongAdder[] nanos = adders();
+    /** The Dynamic Arrays reporting here (weak, so metrics never keep an array alive) */
+    private final List<WeakReference<DynamicArray<?>>> instances = new ArrayList<>();
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor for metrics of a single Dynamic Array (or a group you
+     * manage yourself). Not published to JMX until `register` is called.
+     *
+     * @param name The name shown in JMX and JFR
+     */
+    public DynamicArrayMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the shared metrics group with a name, creating it and publishing
+     * it to JMX the first time
+     *
+     * @param name The group name
+     * @return The group
+     */
+    public static DynamicArrayMetrics group(String name) {
+        return GROUPS.computeIfAbsent(name, key -> {
+            DynamicArrayMetrics metrics = new DynamicArrayMetrics(key);
+            metrics.register();
+            return metrics;
+        });
+    }
+
+    /**
+     * Private utility to make one counter per operation
+     */
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Operation.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Returns the JMX name of the group
+     *
+     * @return `DynamicArray:type=Metrics,name=<name>`
+     */
+    public ObjectName objectName() {
+        try {
+            return new ObjectName("DynamicArray:type=Metrics,name=" + ObjectName.quote(this.name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metrics name: " + this.name, e);
+        }
+    }
+
+    /**
+     * Publishes the metrics on the platform MBean server (does nothing if
+     * metrics with the same name are already published)
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // Already published
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + objectName(), e);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server
+     */
+    public void unregister() {
+        GROUPS.remove(this.name, this);
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // Not published
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + objectName(), e);
+        }
+    }
+
+    /**
+     * Starts counting a Dynamic Array in the capacity/size gauges
+     */
+    synchronized void attach(DynamicArray<?> dynamicArray) {
+        // Now and then, forget collected arrays so that an unread group stays small
+        if (Integer.bitCount(this.instances.size()) == 1) {
+            this.instances.removeIf(reference -> reference.get() == null);
+        }
+        this.instances.add(new WeakReference<>(dynamicArray));
+    }
+
+    /**
+     * Returns how many Dynamic Arrays are tracked, collected ones included
+     */
+    synchronized int tracked() {
+        return this.instances.size();
+    }
+
+    /**
+     * Stops counting a Dynamic Array in the capacity/size gauges
+     */
+    synchronized void detach(DynamicArray<?> dynamicArray) {
+        this.instances.removeIf(reference -> reference.get() == null || reference.get() == dynamicArray);
+    }
+
+    /**
+     * Private utility to collect the live reporting arrays (dropping collected ones)
+     */
+    private synchronized List<DynamicArray<?>> live() {
+        List<DynamicArray<?>> live = new ArrayList<>();
+        for (Iterator<WeakReference<DynamicArray<?>>> it = this.instances.iterator(); it.hasNext();) {
+            DynamicArray<?> dynamicArray = it.next().get();
+            if (dynamicArray == null) {
+                it.remove();
+            } else {
+                live.add(dynamicArray);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Records a storage reallocation
+     *
+     * @param oldCapacity The capacity before
+     * @param newCapacity The capacity after
+     * @param copied      The number of elements moved into the new storage
+     */
+    void recordResize(int oldCapacity, int newCapacity, int copied) {
+        this.resizes.increment();
+        this.elementsCopied.add(copied);
+        this.bytesAllocated.add(ARRAY_HEADER_BYTES + REFERENCE_BYTES * newCapacity);
+        ResizeEvent event = new ResizeEvent();
+        if (event.shouldCommit()) {
+            event.group = this.name;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.elementsCopied = copied;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records new storage that is not a resize (the array returned by a
+     * whole-array operation)
+     *
+     * @param capacity The capacity of the storage
+     */
+    void recordAllocation(int capacity) {
+        this.bytesAllocated.add(ARRAY_HEADER_BYTES + REFERENCE_BYTES * capacity);
+    }
+
+    /**
+     * Records a finished operation
+     *
+     * @param operation  The operation
+     * @param startNanos `System.nanoTime()` when the operation started
+     * @param copied     The number of elements it copied into a new array
+     */
+    void recordOperation(Operation operation, long startNanos, int copied) {
+        long elapsed = System.nanoTime() - startNanos;
+        this.counts[operation.ordinal()].increment();
+        this.nanos[operation.ordinal()].add(elapsed);
+        this.elementsCopied.add(copied);
+        OperationEvent event = new OperationEvent();
+        if (event.shouldCommit()) {
+            event.group = this.name;
+            event.operation = operation.name();
+            event.latency = elapsed;
+            event.elementsCopied = copied;
+            event.commit();
+        }
+    }
+
+    /**
+     * Private utility to turn per-operation counters into a name -> value map
+     */
+    private static Map<String, Long> byOperation(LongAdder[] adders) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            values.put(operation.name(), adders[operation.ordinal()].sum());
+        }
+        return values;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getResizes() {
+        return this.resizes.sum();
+    }
+
+    public long getElementsCopied() {
+        return this.elementsCopied.sum();
+    }
+
+    public long getBytesAllocated() {
+        return this.bytesAllocated.sum();
+    }
+
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(this.counts);
+    }
+
+    public Map<String, Long> getOperationNanos() {
+        return byOperation(this.nanos);
+    }
+
+    public int getInstances() {
+        return live().size();
+    }
+
+    public long getCapacity() {
+        long capacity = 0;
+        for (DynamicArray<?> dynamicArray : live()) {
+            capacity += dynamicArray.capacity();
+        }
+        return capacity;
+    }
+
+    public long getSize() {
+        long size = 0;
+        for (DynamicArray<?> dynamicArray : live()) {
+            size += dynamicArray.size();
+        }
+        return size;
+    }
+
+    public long getWastedSlots() {
+        long wasted = 0;
+        for (DynamicArray<?> dynamicArray : live()) {
+            wasted += dynamicArray.capacity() - dynamicArray.size();
+        }
+        return wasted;
+    }
+
+    public void reset() {
+        this.resizes.reset();
+        this.elementsCopied.reset();
+        this.bytesAllocated.reset();
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i].reset();
+            this.nanos[i].reset();
+        }
+    }
+
+    /** JFR event for a storage reallocation */
+    @Name("DynamicArray.Resize")
+    @Label("Dynamic Array Resize")
+    @Category("Dynamic Array")
+    @Description("A Dynamic Array moved its elements into storage of a new capacity")
+    static class ResizeEvent extends Event {
+        @Label("Group")
+        String group;
+        @Label("Old Capacity")
+        int oldCapacity;
+        @Label("New Capacity")
+        int newCapacity;
+        @Label("Elements Copied")
+        int elementsCopied;
+    }
+
+    /** JFR event for a timed operation */
+    @Name("DynamicArray.Operation")
+    @Label("Dynamic Array Operation")
+    @Category("Dynamic Array")
+    @Description("A Dynamic Array add/remove/append/insert/delete")
+    static class OperationEvent extends Event {
+        @Label("Group")
+        String group;
+        @Label("Operation")
+        String operation;
+        @Label("Latency")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+        @Label("Elements Copied")
+        int elementsCopied;
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.Map;
+
+/**
+ * The JMX view of a `DynamicArrayMetrics` group.
+ * Counters are totals since the group was created (or last reset).
+ */
+public interface DynamicArrayMetricsMXBean {
+    /**
+     * Returns the name of the group
+     *
+     * @return The group name
+     */
+    String getName();
+
+    /**
+     * Returns how many times a storage was reallocated
+     *
+     * @return The number of resizes
+     */
+    long getResizes();
+
+    /**
+     * Returns how many elements were copied by resizes and whole-array operations
+     *
+     * @return The number of copied elements
+     */
+    long getElementsCopied();
+
+    /**
+     * Returns an estimate of the bytes allocated for new storage
+     *
+     * @return The allocated bytes
+     */
+    long getBytesAllocated();
+
+    /**
+     * Returns how many times each operation ran
+     *
+     * @return The count per operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the total time spent in each operation
+     *
+     * @return The nanoseconds per operation name
+     */
+    Map<String, Long> getOperationNanos();
+
+    /**
+     * Returns the number of Dynamic Arrays reporting to the group
+     *
+     * @return The number of live instances
+     */
+    int getInstances();
+
+    /**
+     * Returns the total capacity of the reporting Dynamic Arrays
+     *
+     * @return The number of storage slots
+     */
+    long getCapacity();
+
+    /**
+     * Returns the total size of the reporting Dynamic Arrays
+     *
+     * @return The number of elements
+     */
+    long getSize();
+
+    /**
+     * Returns the storage slots that hold no element
+     *
+     * @return Capacity minus size
+     */
+    long getWastedSlots();
+
+    /**
+     * Sets every counter back to 0
+     */
+    void reset();
+}
@@ -0,0 +1,206 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A per-thread pool of `Object[]` storage for `DynamicArray`, so that
+ * short-lived Dynamic Arrays (sublists, appends, temporary copies) reuse
+ * storage instead of allocating it.
+ *
+ * Pooling is opt-in and per thread: once `install` is called on a thread, the
+ * Dynamic Arrays it creates or grows borrow their storage from its pool,
+ * rounded up to a power of two (the size classes). Storage comes back when a
+ * Dynamic Array moves to new storage, or when `release()` is called on it
+ * (also done by `close()`, so a temporary can live in a try-with-resources
+ * block). Storage is cleared before it is kept, and the pool never keeps more
+ * than its byte limit; anything beyond that is left to the garbage collector.
+ * Threads without a pool allocate as before.
+ */
+public class DynamicArrayPool {
+    /** The shortest pooled storage (shorter storage is cheaper to allocate) */
+    static final int MIN_POOLED = 16;
+    /** The number of size classes (lengths 2^0 to 2^30) */
+    static final int CLASSES = 31;
+
+    /** The pool of each thread (unset = no pooling) */
+    private static final ThreadLocal<DynamicArrayPool> POOLS = new ThreadLocal<>();
+    /** Whether any thread ever installed a pool (skips the thread-local lookup until then) */
+    private static volatile boolean installed;
+
+    /** The most bytes the pool keeps */
+    private final long maxRetainedBytes;
+    /** The estimated bytes of the storage kept right now */
+    private long retainedBytes;
+    /** The free storage of each size class */
+    private final List<ArrayDeque<Object[]>> classes;
+    /** The number of requests served from the pool */
+    private long hits;
+    /** The number of requests that had to allocate */
+    private long misses;
+    /** The number of returned storage arrays not kept because of the limit */
+    private long dropped;
+
+    /* CONSTRUCTORS */
+    /**
+     * Private constructor: pools are made with `install`
+     *
+     * @param maxRetainedBytes The most bytes to keep
+     */
+    private DynamicArrayPool(long maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.classes = new ArrayList<>(CLASSES);
+        for (int i = 0; i < CLASSES; i++) {
+            this.classes.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Starts pooling on the current thread (replacing its previous pool, if any)
+     *
+     * @param maxRetainedBytes The most bytes of free storage the pool may keep
+     * @return The new pool
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public static DynamicArrayPool install(long maxRetainedBytes) throws IllegalArgumentException {
+        if (maxRetainedBytes < 0) {
+            throw new IllegalArgumentException("The retained memory limit must not be negative.");
+        }
+        DynamicArrayPool pool = new DynamicArrayPool(maxRetainedBytes);
+        POOLS.set(pool);
+        installed = true;
+        return pool;
+    }
+
+    /**
+     * Stops pooling on the current thread, letting go of the kept storage
+     */
+    public static void uninstall() {
+        POOLS.remove();
+    }
+
+    /**
+     * Returns the pool of the current thread
+     *
+     * @return The pool (`null` if pooling is not installed on this thread)
+     */
+    public static DynamicArrayPool current() {
+        return installed ? POOLS.get() : null;
+    }
+
+    /**
+     * Returns storage of at least a given length: from the current thread's
+     * pool if it has one, otherwise newly allocated (with exactly that length)
+     *
+     * @param length The needed length
+     * @return Storage whose slots are all `null`
+     */
+    static Object[] borrow(int length) {
+        DynamicArrayPool pool = length >= MIN_POOLED ? current() : null;
+        return pool == null ? new Object[length] : pool.take(length);
+    }
+
+    /**
+     * Gives storage that is no longer used to the current thread's pool (does
+     * nothing if the thread has no pool)
+     *
+     * @param storage The storage (must not be used by anything afterwards)
+     */
+    static void recycle(Object[] storage) {
+        DynamicArrayPool pool = storage.length >= MIN_POOLED ? current() : null;
+        if (pool != null) {
+            pool.give(storage);
+        }
+    }
+
+    /**
+     * Private utility to estimate the bytes of storage of a length
+     */
+    private static long bytes(int length) {
+        return DynamicArrayMetrics.ARRAY_HEADER_BYTES + DynamicArrayMetrics.REFERENCE_BYTES * length;
+    }
+
+    /**
+     * Private utility to take storage from the smallest size class that fits
+     */
+    private Object[] take(int length) {
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(length - 1);
+        if (sizeClass >= CLASSES) {
+            // Too large for a power-of-two array
+            this.misses++;
+            return new Object[length];
+        }
+        Object[] storage = this.classes.get(sizeClass).pollLast();
+        if (storage == null) {
+            this.misses++;
+            return new Object[1 << sizeClass];
+        }
+        this.hits++;
+        this.retainedBytes -= bytes(storage.length);
+        return storage;
+    }
+
+    /**
+     * Private utility to keep storage, if it fits a size class and the limit
+     */
+    private void give(Object[] storage) {
+        if (Integer.bitCount(storage.length) != 1) {
+            // Not a size class (allocated before pooling started)
+            return;
+        }
+        long size = bytes(storage.length);
+        if (this.retainedBytes + size > this.maxRetainedBytes) {
+            this.dropped++;
+            return;
+        }
+        // 1. Let go of the old elements, 2. keep the storage in its size class
+        Arrays.fill(storage, null);
+        this.classes.get(Integer.numberOfTrailingZeros(storage.length)).addLast(storage);
+        this.retainedBytes += size;
+    }
+
+    /**
+     * Lets go of all the kept storage
+     */
+    public void clear() {
+        for (ArrayDeque<Object[]> sizeClass : this.classes) {
+            sizeClass.clear();
+        }
+        this.retainedBytes = 0;
+    }
+
+    /**
+     * Returns the most bytes the pool keeps
+     */
+    public long getMaxRetainedBytes() {
+        return this.maxRetainedBytes;
+    }
+
+    /**
+     * Returns the estimated bytes of the storage kept right now
+     */
+    public long getRetainedBytes() {
+        return this.retainedBytes;
+    }
+
+    /**
+     * Returns how many requests were served from the pool
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns how many requests had to allocate
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns how many returned storage arrays were not kept because of the limit
+     */
+    public long getDropped() {
+        return this.dropped;
+    }
+}
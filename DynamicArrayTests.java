@@ -1,3 +1,19 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -381,4 +397,1058 @@ public class DynamicArrayTests {
         a1.extract(3, 1);
     }
 
+    // ~*~*~*~*~ Capacity Tests Below ~*~*~*~*~
+    /**
+     * Tests that appending past the storage grows it geometrically
+     * instead of by one slot at a time
+     */
+    @Test
+    public void testAddGrowsGeometrically() {
+        a1.add('g');
+        assertEquals(12, a1.capacity());
+        Object[] grown = a1.storage;
+        a1.add('h');
+        a1.add('i');
+        // No reallocation while there is spare capacity
+        assertSame(grown, a1.storage);
+        compareToString(a1, "abcdefghi");
+    }
+
+    /**
+     * Tests that a fixed-chunk growth policy adds exactly that many slots
+     */
+    @Test
+    public void testFixedChunkGrowth() {
+        a1.setGrowthPolicy(GrowthPolicy.fixedChunk(3));
+        a1.add(2, 'z');
+        assertEquals(9, a1.capacity());
+        compareToString(a1, "abzcdef");
+    }
+
+    /**
+     * Tests that ensureCapacity reserves storage without changing the contents
+     */
+    @Test
+    public void testEnsureCapacity() {
+        a1.ensureCapacity(100);
+        assertTrue(a1.capacity() >= 100);
+        compareSize(a1, "abcdef");
+        compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that trimToSize drops the unused storage
+     */
+    @Test
+    public void testTrimToSize() {
+        a1.add('g');
+        a1.trimToSize();
+        assertEquals(7, a1.capacity());
+        compareToString(a1, "abcdefg");
+    }
+
+    /**
+     * Tests that removing shrinks the storage only once it is mostly empty
+     */
+    @Test
+    public void testRemoveShrinksWithHysteresis() {
+        a1.ensureCapacity(16);
+        a1.remove(0);
+        assertEquals(16, a1.capacity());
+        a1.remove(0);
+        // 4 elements in 16 slots is at most a quarter full => halve
+        assertEquals(8, a1.capacity());
+        compareToString(a1, "cdef");
+    }
+
+    /**
+     * Tests that invalid policies are rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGrowthFactor() {
+        GrowthPolicy.geometric(1.0);
+    }
+
+    // ~*~*~*~*~ Gap Buffer Tests Below ~*~*~*~*~
+    /**
+     * Tests that inserting around a cursor in gap-buffer mode
+     * gives the same result as the plain layout
+     */
+    @Test
+    public void testGapBufferAdd() {
+        a1.setGapBuffer(true);
+        a1.add(3, 'x');
+        a1.add(4, 'y');
+        a1.add(1, 'z');
+        a1.add('g');
+        compareSize(a1, "azbcxydefg");
+        compareToString(a1, "azbcxydefg");
+    }
+
+    /**
+     * Tests that removing in gap-buffer mode closes up the elements
+     */
+    @Test
+    public void testGapBufferRemove() {
+        a1.setGapBuffer(true);
+        assertEquals(Character.valueOf('c'), a1.remove(2));
+        assertEquals(Character.valueOf('b'), a1.remove(1));
+        assertEquals(Character.valueOf('f'), a1.remove(3));
+        a1.add(1, 'q');
+        compareSize(a1, "aqde");
+        compareToString(a1, "aqde");
+    }
+
+    /**
+     * Tests that set/get and the whole-array operations see through the gap,
+     * and that turning the mode off keeps the contents
+     */
+    @Test
+    public void testGapBufferWholeArray() {
+        a1.setGapBuffer(true);
+        a1.add(2, 'x');
+        a1.set(4, 'D');
+        compareToString(a1.append(a2), "abxcDefwxyz");
+        compareToString(a1.extract(1, 4), "bxc");
+        a1.setGapBuffer(false);
+        a1.add(0, 'z');
+        compareToString(a1, "zabxcDef");
+    }
+
+    // ~*~*~*~*~ Ring Buffer Tests Below ~*~*~*~*~
+    /**
+     * Tests that the ring layout works as a queue at both ends
+     */
+    @Test
+    public void testRingBufferBothEnds() {
+        a1.setRingBuffer(true);
+        a1.addFirst('z');
+        a1.add('g');
+        compareToString(a1, "zabcdefg");
+        assertEquals(Character.valueOf('z'), a1.removeFirst());
+        assertEquals(Character.valueOf('g'), a1.removeLast());
+        assertEquals(Character.valueOf('a'), a1.remove(0));
+        a1.add(0, 'y');
+        compareSize(a1, "ybcdef");
+        compareToString(a1, "ybcdef");
+    }
+
+    /**
+     * Tests that dequeuing from the front does not move the other elements
+     */
+    @Test
+    public void testRingBufferRemoveFirstIsConstant() {
+        a1.setRingBuffer(true);
+        a1.setShrinkPolicy(ShrinkPolicy.never());
+        Object[] before = a1.storage;
+        a1.removeFirst();
+        a1.removeFirst();
+        assertSame(before, a1.storage);
+        assertEquals(Character.valueOf('f'), before[5]);
+        compareToString(a1, "cdef");
+    }
+
+    /**
+     * Tests that elements wrapping around the end of storage
+     * are still read in order, and that unwrapping keeps them
+     */
+    @Test
+    public void testRingBufferWrapAround() {
+        a1.setRingBuffer(true);
+        a1.removeFirst();
+        a1.removeFirst();
+        a1.add('g');
+        a1.add('h');
+        compareToString(a1, "cdefgh");
+        a1.set(5, 'H');
+        compareToString(a1.extract(3, 6), "fgH");
+        a1.setRingBuffer(false);
+        compareToString(a1, "cdefgH");
+    }
+
+    /**
+     * Tests that removing from an empty array throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveFirstEmpty() {
+        empty.removeFirst();
+    }
+
+    // ~*~*~*~*~ View Tests Below ~*~*~*~*~
+    /**
+     * Tests that sublist shares storage instead of copying
+     */
+    @Test
+    public void testSublistSharesStorage() {
+        DynamicArray<Character> view = a1.sublist(2, 5);
+        assertSame(a1.storage, view.storage);
+        compareSize(view, "cde");
+        compareToString(view, "cde");
+        compareToString(a1.splitSuffix(3), "def");
+        compareToString(a1.splitPrefix(2), "ab");
+    }
+
+    /**
+     * Tests that writing to a view does not change the original, and vice versa
+     */
+    @Test
+    public void testViewCopyOnWrite() {
+        DynamicArray<Character> view = a1.extract(1, 4);
+        view.set(0, 'B');
+        view.add('x');
+        compareToString(view, "Bcdx");
+        compareToString(a1, "abcdef");
+        DynamicArray<Character> other = a1.sublist(0, 3);
+        a1.set(0, 'A');
+        a1.remove(1);
+        compareToString(other, "abc");
+        compareToString(a1, "Acdef");
+    }
+
+    /**
+     * Tests that views of ring and gap layouts see the right elements
+     */
+    @Test
+    public void testViewOfRingAndGap() {
+        a1.setRingBuffer(true);
+        a1.removeFirst();
+        a1.add('g');
+        compareToString(a1.sublist(3, 6), "efg");
+        a2.setGapBuffer(true);
+        a2.add(2, 'q');
+        DynamicArray<Character> view = a2.sublist(1, 4);
+        compareToString(view, "xqy");
+        view.add(0, 'w');
+        compareToString(view, "wxqy");
+        compareToString(a2, "wxqyz");
+    }
+
+    /**
+     * Tests that storage is written in place again once no other array uses
+     * it: after the view is dropped, or after the original moved on
+     */
+    @Test
+    public void testSharingEndsWithTheView() {
+        DynamicArray<Character> view = a1.sublist(1, 3);
+        WeakReference<DynamicArray<Character>> dropped = new WeakReference<>(view);
+        view = null;
+        for (int i = 0; i < 50 && dropped.get() != null; i++) {
+            System.gc();
+        }
+        Object before = a1.storage;
+        a1.set(0, 'A');
+        assertSame(before, a1.storage);
+
+        DynamicArray<Character> kept = a2.sublist(0, 2);
+        a2.ensureCapacity(100);
+        before = kept.storage;
+        kept.set(0, 'X');
+        assertSame(before, kept.storage);
+        compareToString(kept, "Xx");
+        compareToString(a2, "wxyz");
+    }
+
+    /**
+     * Tests that a view left alone with its storage after the original copied
+     * away still adds and removes at the right positions
+     */
+    @Test
+    public void testViewWritesAfterParentCopies() {
+        DynamicArray<Character> letters = stringToArray("abcdefgh");
+        DynamicArray<Character> view = letters.sublist(2, 4);
+        letters.set(0, 'z');
+        view.add('X');
+        compareToString(view, "cdX");
+        DynamicArray<Character> other = letters.sublist(3, 7);
+        letters.set(0, 'a');
+        other.remove(0);
+        other.add('h');
+        compareToString(other, "efgh");
+        other.add(1, 'Y');
+        compareToString(other, "eYfgh");
+        compareToString(letters, "abcdefgh");
+    }
+
+    /**
+     * Tests that a view outliving its original (collected) still adds and
+     * removes at the right positions
+     */
+    @Test
+    public void testViewWritesAfterParentCollected() {
+        DynamicArray<Character> letters = stringToArray("abcdefgh");
+        DynamicArray<Character> view = letters.sublist(3, 7);
+        WeakReference<DynamicArray<Character>> dropped = new WeakReference<>(letters);
+        letters = null;
+        for (int i = 0; i < 50 && dropped.get() != null; i++) {
+            System.gc();
+        }
+        view.remove(0);
+        view.add('h');
+        compareToString(view, "efgh");
+        view.add(0, 'd');
+        compareToString(view, "defgh");
+    }
+
+    /**
+     * Tests that compact gives a small view its own storage
+     */
+    @Test
+    public void testCompact() {
+        a1.ensureCapacity(100);
+        DynamicArray<Character> view = a1.sublist(1, 3);
+        assertTrue(view.compact());
+        assertEquals(2, view.capacity());
+        assertFalse(view.compact());
+        compareToString(view, "bc");
+    }
+
+    // ~*~*~*~*~ In-Place Bulk Tests Below ~*~*~*~*~
+    /**
+     * Tests that addAll splices another array in place
+     */
+    @Test
+    public void testAddAll() {
+        a1.addAll(2, a2);
+        compareSize(a1, "abwxyzcdef");
+        compareToString(a1, "abwxyzcdef");
+        a2.addAll(4, a2);
+        compareToString(a2, "wxyzwxyz");
+    }
+
+    /**
+     * Tests that removeRange closes up the array in place
+     */
+    @Test
+    public void testRemoveRange() {
+        a1.removeRange(1, 4);
+        compareSize(a1, "aef");
+        compareToString(a1, "aef");
+        a1.removeRange(0, 3);
+        compareSize(a1, "");
+    }
+
+    /**
+     * Tests that replaceRange can grow and shrink the range
+     */
+    @Test
+    public void testReplaceRange() {
+        a1.replaceRange(1, 2, a2);
+        compareToString(a1, "awxyzcdef");
+        a1.replaceRange(0, 5, s);
+        compareSize(a1, "scdef");
+        compareToString(a1, "scdef");
+    }
+
+    /**
+     * Tests that fill sets a whole range
+     */
+    @Test
+    public void testFill() {
+        a1.fill(2, 4, '-');
+        compareToString(a1, "ab--ef");
+        a2.fill('*');
+        compareToString(a2, "****");
+    }
+
+    /**
+     * Tests that a range past the end throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeUpperBounds() {
+        a1.removeRange(4, 7);
+    }
+
+    /**
+     * Tests that a backwards range throws the right exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplaceRangeBackwards() {
+        a1.replaceRange(4, 2, a2);
+    }
+
+    // ~*~*~*~*~ Iteration Tests Below ~*~*~*~*~
+    /**
+     * Tests that a for-each loop visits every item in order
+     */
+    @Test
+    public void testForEach() {
+        StringBuilder visited = new StringBuilder();
+        for (Character c : a1) {
+            visited.append(c);
+        }
+        assertEquals("abcdef", visited.toString());
+        for (Character c : empty) {
+            fail("empty array has no items: " + c);
+        }
+    }
+
+    /**
+     * Tests that adding while iterating throws an exception
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        for (Character c : a1) {
+            a1.add(c);
+        }
+    }
+
+    /**
+     * Tests that the spliterator splits its range evenly and keeps its size
+     */
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        Spliterator<Character> second = a1.spliterator();
+        Spliterator<Character> first = second.trySplit();
+        assertEquals(3, first.estimateSize());
+        assertEquals(3, second.estimateSize());
+        assertTrue(second.hasCharacteristics(Spliterator.SUBSIZED));
+    }
+
+    /**
+     * Tests that sequential and parallel streams see the same items, in order
+     */
+    @Test
+    public void testStreams() {
+        assertEquals("abcdef", a1.stream().map(String::valueOf).collect(Collectors.joining()));
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        for (int i = 1; i <= 10000; i++) {
+            numbers.add(i);
+        }
+        numbers.setRingBuffer(true);
+        numbers.removeFirst();
+        numbers.addFirst(1);
+        assertEquals(50005000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(Integer.valueOf(1), numbers.parallelStream().findFirst().get());
+    }
+
+    // ~*~*~*~*~ Parallel Tests Below ~*~*~*~*~
+    /**
+     * Makes an array holding 0 to count - 1
+     */
+    public DynamicArray<Integer> range(int count) {
+        DynamicArray<Integer> result = new DynamicArray<>(0);
+        for (int i = 0; i < count; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    /**
+     * Tests that setAll and replaceAll reach every item across many splits
+     */
+    @Test
+    public void testParallelSetAllReplaceAll() {
+        DynamicArray<Integer> numbers = range(50000);
+        numbers.setParallelThreshold(100);
+        numbers.parallelSetAll(i -> 2 * i);
+        numbers.parallelReplaceAll(x -> x + 1);
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(Integer.valueOf(2 * i + 1), numbers.get(i));
+        }
+    }
+
+    /**
+     * Tests that reduce matches a sequential sum and forEach visits every item
+     */
+    @Test
+    public void testParallelReduceForEach() {
+        DynamicArray<Integer> numbers = range(50000);
+        numbers.setParallelThreshold(64);
+        assertEquals(Integer.valueOf(1249975000), numbers.parallelReduce(0, Integer::sum));
+        LongAdder count = new LongAdder();
+        numbers.parallelForEach(x -> count.increment());
+        assertEquals(50000, count.sum());
+        assertEquals(Integer.valueOf(0), range(0).parallelReduce(0, Integer::sum));
+    }
+
+    /**
+     * Tests that reducing with an order-sensitive accumulator keeps the order
+     */
+    @Test
+    public void testParallelReduceKeepsOrder() {
+        DynamicArray<String> letters = new DynamicArray<>(0);
+        for (char c = 'a'; c <= 'z'; c++) {
+            letters.add(String.valueOf(c));
+        }
+        letters.setParallelThreshold(2);
+        assertEquals("abcdefghijklmnopqrstuvwxyz", letters.parallelReduce("", String::concat));
+    }
+
+    // ~*~*~*~*~ Serialization Tests Below ~*~*~*~*~
+    /**
+     * Tests that an array survives a binary round trip, with and without
+     * compression and across several chunks
+     */
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        DynamicArray<Integer> numbers = range(10000);
+        for (boolean compressed : new boolean[] { false, true }) {
+            DynamicArrayFormat<Integer> format = new DynamicArrayFormat<>(ElementCodec.INT, 1000, compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            numbers.writeTo(out, format);
+            DynamicArray<Integer> copy = DynamicArray.readFrom(new ByteArrayInputStream(out.toByteArray()), format);
+            assertEquals(10000, copy.size());
+            for (int i = 0; i < copy.size(); i++) {
+                assertEquals(numbers.get(i), copy.get(i));
+            }
+        }
+        DynamicArrayFormat<Character> chars = new DynamicArrayFormat<>(ElementCodec.CHAR);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        empty.writeTo(out, chars);
+        compareSize(DynamicArray.readFrom(new ByteArrayInputStream(out.toByteArray()), chars), "");
+    }
+
+    /**
+     * Tests that elements can be streamed in and consumed chunk by chunk,
+     * and that two arrays can follow each other on one stream
+     */
+    @Test
+    public void testBinaryStreaming() throws IOException {
+        DynamicArrayFormat<String> format = new DynamicArrayFormat<>(ElementCodec.nullable(ElementCodec.STRING), 2,
+                true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DynamicArrayFormat.ChunkWriter<String> writer = format.newWriter(out)) {
+            writer.add("héllo");
+            writer.add(null);
+            writer.add("world");
+        }
+        DynamicArray<String> second = new DynamicArray<>(0);
+        second.add("again");
+        second.writeTo(out, format);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        StringBuilder seen = new StringBuilder();
+        assertEquals(3, format.read(in, item -> seen.append(item).append(' ')));
+        assertEquals("héllo null world ", seen.toString());
+        assertEquals("again", format.readFrom(in).get(0));
+    }
+
+    /**
+     * Tests that a stream in another format is rejected
+     */
+    @Test(expected = IOException.class)
+    public void testBinaryRejectsGarbage() throws IOException {
+        new DynamicArrayFormat<>(ElementCodec.INT).readFrom(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }));
+    }
+
+    /**
+     * Tests that a string length that is negative or longer than its chunk is
+     * rejected before anything is allocated for it
+     */
+    @Test
+    public void testBinaryRejectsBadStringLength() throws IOException {
+        DynamicArrayFormat<String> format = new DynamicArrayFormat<>(ElementCodec.STRING, 4, false);
+        DynamicArray<String> words = new DynamicArray<>(0);
+        words.add("abc");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        words.writeTo(out, format);
+        byte[] bytes = out.toByteArray();
+        // The string length follows the header and the chunk lengths
+        int length = 10 + 12;
+        for (byte first : new byte[] { (byte) 0xff, 0x7f }) {
+            byte[] corrupt = bytes.clone();
+            corrupt[length] = first;
+            assertThrows(IOException.class, () -> format.readFrom(new ByteArrayInputStream(corrupt)));
+        }
+    }
+
+    /**
+     * Tests that an array whose writing failed part way is not read back
+     * as a shorter array
+     */
+    @Test
+    public void testBinaryFailedWriteIsIncomplete() throws IOException {
+        ElementCodec<Integer> failing = new ElementCodec<Integer>() {
+            public void write(DataOutput out, Integer item) throws IOException {
+                if (item == 4000) {
+                    throw new IllegalStateException("Cannot write 4000.");
+                }
+                out.writeInt(item);
+            }
+
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+        DynamicArrayFormat<Integer> format = new DynamicArrayFormat<>(failing, 100, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> range(5000).writeTo(out, format));
+        // The whole chunks before the failure did reach the stream
+        assertTrue(out.size() > 10000);
+        assertThrows(IOException.class, () -> format.readFrom(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    /**
+     * Tests that chunk lengths past the limit are rejected before anything
+     * is allocated for them
+     */
+    @Test
+    public void testBinaryRejectsHugeChunk() throws IOException {
+        DynamicArrayFormat<Integer> format = new DynamicArrayFormat<>(ElementCodec.INT, 4, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        range(4).writeTo(out, format);
+        byte[] bytes = out.toByteArray();
+        // The chunk lengths follow the header and the element count
+        int lengths = bytes.length - 4 - 16 - 8;
+        for (int at : new int[] { lengths, lengths + 4 }) {
+            byte[] corrupt = bytes.clone();
+            corrupt[at] = 0x7f;
+            assertThrows(IOException.class, () -> format.readFrom(new ByteArrayInputStream(corrupt)));
+        }
+    }
+
+    // ~*~*~*~*~ Metrics Tests Below ~*~*~*~*~
+    /**
+     * Tests that resizes, copies and operations are counted once metrics are on
+     */
+    @Test
+    public void testMetricsCounts() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics("test-counts");
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        numbers.add(-1); // not measured yet
+        numbers.setMetrics(metrics);
+        for (int i = 0; i < 100; i++) {
+            numbers.add(i);
+        }
+        numbers.add(0, 5);
+        numbers.remove(0);
+        numbers.append(range(10));
+        assertEquals(7, metrics.getResizes()); // 1 -> 2 -> 4 -> ... -> 128
+        assertEquals(Long.valueOf(100), metrics.getOperationCounts().get("ADD"));
+        assertEquals(Long.valueOf(1), metrics.getOperationCounts().get("ADD_AT"));
+        assertEquals(Long.valueOf(1), metrics.getOperationCounts().get("APPEND"));
+        assertEquals(1 + 2 + 4 + 8 + 16 + 32 + 64 + 111, metrics.getElementsCopied());
+        assertEquals(1, metrics.getInstances());
+        assertEquals(128 - 101, metrics.getWastedSlots());
+
+        numbers.setMetrics(null);
+        numbers.add(1);
+        assertEquals(Long.valueOf(100), metrics.getOperationCounts().get("ADD"));
+        assertEquals(0, metrics.getInstances());
+    }
+
+    /**
+     * Tests that gap-buffer growth and the arrays made by whole-array
+     * operations are counted, including when an operation returns early
+     */
+    @Test
+    public void testMetricsCountEveryAllocation() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics("test-allocations");
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        numbers.setGapBuffer(true);
+        numbers.add(-1); // not measured yet
+        numbers.setMetrics(metrics);
+        for (int i = 0; i < 4; i++) {
+            numbers.add(0, i);
+        }
+        assertEquals(3, metrics.getResizes()); // 1 -> 2 -> 4 -> 8
+        long bytes = metrics.getBytesAllocated();
+        assertEquals(3 * DynamicArrayMetrics.ARRAY_HEADER_BYTES + DynamicArrayMetrics.REFERENCE_BYTES * (2 + 4 + 8),
+                bytes);
+
+        // Copies of the 5 elements, then 5 + 2 elements
+        numbers.insert(0, range(0));
+        numbers.delete(1, 1);
+        numbers.append(range(2));
+        assertEquals(Long.valueOf(1), metrics.getOperationCounts().get("INSERT"));
+        assertEquals(Long.valueOf(1), metrics.getOperationCounts().get("DELETE"));
+        assertEquals(bytes + 3 * DynamicArrayMetrics.ARRAY_HEADER_BYTES + DynamicArrayMetrics.REFERENCE_BYTES * (5 + 5 + 7),
+                metrics.getBytesAllocated());
+    }
+
+    /**
+     * Tests that a group nobody reads does not keep growing with the arrays
+     * that were attached to it and collected
+     */
+    @Test
+    public void testMetricsForgetCollectedArrays() {
+        DynamicArrayMetrics metrics = new DynamicArrayMetrics("test-forget");
+        for (int round = 0; round < 8; round++) {
+            for (int i = 0; i < 1000; i++) {
+                new DynamicArray<Integer>(0).setMetrics(metrics);
+            }
+            System.gc();
+        }
+        assertTrue(metrics.tracked() < 4096);
+    }
+
+    /**
+     * Tests that named groups are shared and published over JMX
+     */
+    @Test
+    public void testMetricsGroupOverJmx() throws Exception {
+        DynamicArrayMetrics group = DynamicArrayMetrics.group("test-jmx");
+        assertSame(group, DynamicArrayMetrics.group("test-jmx"));
+        a1.setMetrics(group);
+        a2.setMetrics(group);
+        a1.add('g');
+        a2.remove(0);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(2, server.getAttribute(group.objectName(), "Instances"));
+        assertEquals(10L, server.getAttribute(group.objectName(), "Size"));
+        group.unregister();
+        assertFalse(server.isRegistered(group.objectName()));
+    }
+
+    // ~*~*~*~*~ Bounds Check Tests Below ~*~*~*~*~
+    /**
+     * Tests that failed checks and extract print nothing unless a listener is installed
+     */
+    @Test
+    public void testBoundsChecksAreSilent() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed));
+        try {
+            assertFalse(a1.indexInRange(6));
+            a1.extract(1, 3);
+            a2.insert(0, s);
+            try {
+                a1.get(-1);
+                fail("get(-1) should throw");
+            } catch (IndexOutOfBoundsException e) {
+                assertEquals("The index is: -1Invalid index.", e.getMessage());
+            }
+        } finally {
+            System.setOut(original);
+        }
+        assertEquals(0, printed.size());
+    }
+
+    /**
+     * Tests that an installed listener receives every failed public check
+     */
+    @Test
+    public void testBoundsListener() {
+        StringBuilder failures = new StringBuilder();
+        DynamicArray.setBoundsListener((index, low, length) -> failures.append(index).append('/').append(length)
+                .append(' '));
+        try {
+            a1.indexInRange(7);
+            try {
+                a1.set(6, 'x');
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+            try {
+                a2.remove(4);
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+            a2.insert(0, s); // speculative internal checks are not reported
+        } finally {
+            DynamicArray.setBoundsListener(null);
+        }
+        assertEquals("7/6 6/6 4/4 ", failures.toString());
+    }
+
+    /**
+     * Tests that the whole-array operations report their failed range checks
+     * to the listener, with the same exception as `get`/`set`
+     */
+    @Test
+    public void testBoundsListenerRanges() {
+        StringBuilder failures = new StringBuilder();
+        DynamicArray.setBoundsListener((index, low, length) -> failures.append(index).append('/').append(length)
+                .append(' '));
+        try {
+            IndexOutOfBoundsException inserted = assertThrows(IndexOutOfBoundsException.class, () -> a2.insert(9, s));
+            assertEquals("The index is: 9Invalid index.", inserted.getMessage());
+            assertThrows(IndexOutOfBoundsException.class, () -> a1.delete(2, 9));
+            assertThrows(IndexOutOfBoundsException.class, () -> a1.delete(-1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> a1.sublist(3, 8));
+            assertThrows(IndexOutOfBoundsException.class, () -> a2.add(5, 'q'));
+        } finally {
+            DynamicArray.setBoundsListener(null);
+        }
+        assertEquals("9/4 9/6 -1/6 8/6 5/4 ", failures.toString());
+    }
+
+    // ~*~*~*~*~ Formatting Tests Below ~*~*~*~*~
+    /**
+     * Tests that formatTo writes every item, or summarizes the ones past the limit
+     */
+    @Test
+    public void testFormatTo() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        a1.formatTo(builder, 2);
+        assertEquals("[a, b, ... (4 more)]", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        a1.formatTo(writer, 6);
+        assertEquals("[a, b, c, d, e, f]", writer.toString());
+
+        builder.setLength(0);
+        a2.formatTo(builder, 0);
+        empty.formatTo(builder, 0);
+        assertEquals("[... (4 more)][]", builder.toString());
+    }
+
+    /**
+     * Tests that toString of a large array is a single linear pass
+     */
+    @Test(timeout = 5000)
+    public void testToStringLarge() {
+        String text = range(1000000).toString();
+        assertTrue(text.startsWith("[0, 1, 2, "));
+        assertTrue(text.endsWith(", 999999]"));
+        assertEquals("[0, 1, 2, 3, 4]", range(5).toString());
+    }
+
+    // ~*~*~*~*~ Batch Tests Below ~*~*~*~*~
+    /**
+     * Tests that batched edits refer to the original indices
+     */
+    @Test
+    public void testBatchUsesOriginalIndices() {
+        a1.batch()
+                .remove(0)
+                .insert(3, 'x')
+                .insert(3, 'y')
+                .set(3, 'D')
+                .remove(5)
+                .insert(6, 'z')
+                .apply();
+        compareSize(a1, "bcxyDez");
+        compareToString(a1, "bcxyDez");
+        assertEquals("[b, c, x, y, D, e, z]", a1.toString());
+    }
+
+    /**
+     * Tests that a batch matches the same edits made one at a time, on a gap buffer too
+     */
+    @Test
+    public void testBatchMatchesSingleEdits() {
+        DynamicArray<Integer> batched = range(1000);
+        batched.setGapBuffer(true);
+        batched.add(500, -1);
+        batched.remove(500);
+        DynamicArray<Integer> single = range(1000);
+        DynamicArray<Integer>.Batch batch = batched.batch();
+        // Record from the back so the single edits keep the same original indices
+        for (int i = 990; i >= 0; i -= 10) {
+            batch.insert(i, -i);
+            batch.remove(i + 5);
+            single.remove(i + 5);
+            single.add(i, -i);
+        }
+        batch.apply();
+        assertEquals(single.toString(), batched.toString());
+        assertEquals(1000, batched.size());
+    }
+
+    /**
+     * Tests that removing and setting the same index is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchConflict() {
+        a1.batch().set(2, 'q').remove(2).apply();
+    }
+
+    /**
+     * Tests that a batch started before items were added cannot be applied
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testBatchStale() {
+        DynamicArray<Character>.Batch batch = a1.batch().remove(0);
+        a1.add('g');
+        batch.apply();
+    }
+
+    // ~*~*~*~*~ Sorting Tests Below ~*~*~*~*~
+    /**
+     * Tests sorting in place, sequentially and in parallel
+     */
+    @Test
+    public void testSort() {
+        DynamicArray<Character> letters = stringToArray("dbfaec");
+        letters.sort(Comparator.naturalOrder());
+        compareToString(letters, "abcdef");
+
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        for (int i = 0; i < 20000; i++) {
+            numbers.add((i * 7919) % 20000);
+        }
+        numbers.setParallelThreshold(1000);
+        numbers.parallelSort(Comparator.reverseOrder());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(Integer.valueOf(19999 - i), numbers.get(i));
+        }
+    }
+
+    /**
+     * Tests binary search hits and insertion points
+     */
+    @Test
+    public void testBinarySearch() {
+        DynamicArray<Integer> evens = new DynamicArray<>(0);
+        for (int i = 0; i < 10; i++) {
+            evens.add(2 * i);
+        }
+        assertEquals(4, evens.binarySearch(8, Comparator.naturalOrder()));
+        assertEquals(-1, evens.binarySearch(-3, Comparator.naturalOrder()));
+        assertEquals(-5, evens.binarySearch(7, Comparator.naturalOrder()));
+        assertEquals(-11, evens.binarySearch(100, Comparator.naturalOrder()));
+        assertEquals(-1, empty.binarySearch('a', Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that addSorted keeps the array sorted, including at both ends
+     */
+    @Test
+    public void testAddSorted() {
+        DynamicArray<Character> letters = stringToArray("bdf");
+        assertEquals(2, letters.addSorted('e', Comparator.naturalOrder()));
+        assertEquals(0, letters.addSorted('a', Comparator.naturalOrder()));
+        assertEquals(5, letters.addSorted('g', Comparator.naturalOrder()));
+        assertEquals(2, letters.addSorted('b', Comparator.naturalOrder()));
+        compareSize(letters, "abbdefg");
+        compareToString(letters, "abbdefg");
+        assertEquals(0, empty.addSorted('z', Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that merging two sorted arrays gives one sorted array
+     */
+    @Test
+    public void testMergeSorted() {
+        DynamicArray<Character> merged = stringToArray("adeh").mergeSorted(stringToArray("bcfgi"),
+                Comparator.naturalOrder());
+        compareSize(merged, "abcdefghi");
+        compareToString(merged, "abcdefghi");
+        compareToString(empty.mergeSorted(a2, Comparator.naturalOrder()), "wxyz");
+    }
+
+    // ~*~*~*~*~ Search Tests Below ~*~*~*~*~
+    /**
+     * Tests indexOf/lastIndexOf/contains in every layout
+     */
+    @Test
+    public void testIndexOf() {
+        for (int layout = 0; layout < 3; layout++) {
+            DynamicArray<Character> letters = stringToArray("abcabc");
+            letters.setRingBuffer(layout == 1);
+            letters.setGapBuffer(layout == 2);
+            // Wrap the ring around / open a gap in the middle
+            letters.addFirst('z');
+            letters.add(3, null);
+            assertEquals(0, letters.indexOf('z'));
+            assertEquals(1, letters.indexOf('a'));
+            assertEquals(5, letters.lastIndexOf('a'));
+            assertEquals(7, letters.lastIndexOf('c'));
+            assertEquals(3, letters.indexOf(null));
+            assertTrue(letters.contains('b'));
+            assertFalse(letters.contains('q'));
+            assertEquals(-1, letters.lastIndexOf('q'));
+        }
+    }
+
+    /**
+     * Tests that the hash index gives the same answers and follows changes
+     */
+    @Test
+    public void testHashIndex() {
+        DynamicArray<Integer> numbers = range(1000);
+        numbers.setHashIndex(true);
+        assertEquals(500, numbers.indexOf(500));
+        assertFalse(numbers.contains(1000));
+        numbers.add(500); // appended: kept current
+        assertEquals(1000, numbers.lastIndexOf(500));
+        numbers.set(10, 500); // set: kept current
+        assertEquals(10, numbers.indexOf(500));
+        assertEquals(-1, numbers.indexOf(10));
+        numbers.remove(0); // shifts every index: rebuilt on the next lookup
+        assertEquals(9, numbers.indexOf(500));
+        assertEquals(999, numbers.lastIndexOf(500));
+        numbers.fill(0, 5, 7); // not structural, but drops the index
+        assertEquals(0, numbers.indexOf(7));
+        numbers.setHashIndex(false);
+        assertEquals(0, numbers.indexOf(7));
+        assertEquals(999, numbers.lastIndexOf(500));
+    }
+
+    // ~*~*~*~*~ Pool Tests Below ~*~*~*~*~
+    /**
+     * Tests that released and replaced storage is reused by later Dynamic Arrays
+     */
+    @Test
+    public void testPoolReusesStorage() {
+        DynamicArrayPool pool = DynamicArrayPool.install(1 << 20);
+        try {
+            DynamicArray<Integer> numbers = range(100);
+            try (DynamicArray<Integer> copy = numbers.append(numbers)) {
+                // Rounded up to the size class, and filled up
+                assertEquals(256, copy.capacity());
+                assertEquals(Integer.valueOf(99), copy.get(199));
+                while (copy.size() < copy.capacity()) {
+                    copy.add(-1);
+                }
+            }
+            long hits = pool.getHits();
+            DynamicArray<Integer> again = numbers.append(numbers);
+            assertEquals(hits + 1, pool.getHits());
+            // Reused storage holds nothing from its previous use
+            assertEquals("[0, 1, 2]", again.sublist(0, 3).toString());
+            assertEquals(Integer.valueOf(99), again.get(199));
+            DynamicArray<?> reused = again;
+            assertNull(reused.storage[again.capacity() - 1]);
+        } finally {
+            DynamicArrayPool.uninstall();
+        }
+    }
+
+    /**
+     * Tests that the pool keeps no more than its limit and ignores shared storage
+     */
+    @Test
+    public void testPoolLimit() {
+        DynamicArrayPool pool = DynamicArrayPool.install(16 + 4 * 64);
+        try {
+            DynamicArray<Integer> first = range(40);
+            DynamicArray<Integer> second = range(40);
+            assertEquals(64, first.capacity());
+            pool.clear();
+            first.release(); // exactly the limit
+            assertEquals(16 + 4 * 64, pool.getRetainedBytes());
+            long dropped = pool.getDropped();
+            second.release(); // over the limit
+            assertEquals(dropped + 1, pool.getDropped());
+            DynamicArray<Integer> numbers = range(40);
+            DynamicArray<Integer> view = numbers.sublist(0, 10);
+            pool.clear();
+            numbers.release();
+            assertEquals(0, pool.getRetainedBytes());
+            assertEquals(Integer.valueOf(9), view.get(9));
+            assertEquals(0, numbers.size());
+        } finally {
+            DynamicArrayPool.uninstall();
+        }
+        assertNull(DynamicArrayPool.current());
+    }
+
+    /**
+     * Tests that growing an array does not hand storage a constructor view
+     * still reads to the next borrower
+     */
+    @Test
+    public void testPoolKeepsViewStorage() {
+        DynamicArrayPool.install(1 << 20);
+        try {
+            DynamicArray<Integer> numbers = range(64);
+            DynamicArray<Integer> view = new DynamicArray<>(numbers, 0, 63);
+            for (int i = 0; i < 200; i++) {
+                numbers.add(i);
+            }
+            DynamicArray<Integer> other = new DynamicArray<>(64);
+            for (int i = 0; i < 64; i++) {
+                other.add(-1);
+            }
+            for (int i = 0; i < 64; i++) {
+                assertEquals(Integer.valueOf(i), view.get(i));
+            }
+        } finally {
+            DynamicArrayPool.uninstall();
+        }
+    }
+
 }
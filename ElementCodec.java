@@ -0,0 +1,101 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes how to write one element to a binary stream and read it back,
+ * for `DynamicArrayFormat`. Elements may have any length.
+ */
+public interface ElementCodec<T> {
+    /** Writes an `Integer` as 4 bytes */
+    ElementCodec<Integer> INT = of(DataOutput::writeInt, DataInput::readInt);
+    /** Writes a `Long` as 8 bytes */
+    ElementCodec<Long> LONG = of(DataOutput::writeLong, DataInput::readLong);
+    /** Writes a `Double` as 8 bytes */
+    ElementCodec<Double> DOUBLE = of(DataOutput::writeDouble, DataInput::readDouble);
+    /** Writes a `Character` as 2 bytes */
+    ElementCodec<Character> CHAR = of((out, item) -> out.writeChar(item), DataInput::readChar);
+    /** Writes a `String` as its UTF-8 length followed by its UTF-8 bytes */
+    ElementCodec<String> STRING = of((out, item) -> {
+        byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }, in -> {
+        // Check the length before allocating (a chunk says how many bytes it has left)
+        int length = in.readInt();
+        int left = in instanceof InputStream ? ((InputStream) in).available() : DynamicArrayFormat.MAX_CHUNK_BYTES;
+        if (length < 0 || length > left) {
+            throw new IOException("Corrupt Dynamic Array chunk.");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    });
+
+    /**
+     * Writes one element
+     *
+     * @param out  The stream to write to
+     * @param item The element
+     * @throws IOException if the stream fails
+     */
+    void write(DataOutput out, T item) throws IOException;
+
+    /**
+     * Reads one element
+     *
+     * @param in The stream to read from
+     * @return The element
+     * @throws IOException if the stream fails or ends early
+     */
+    T read(DataInput in) throws IOException;
+
+    /** Writes one element to a stream */
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(DataOutput out, T item) throws IOException;
+    }
+
+    /** Reads one element from a stream */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Makes a codec from a writer/reader pair
+     *
+     * @param writer Writes an element
+     * @param reader Reads an element
+     * @return The codec
+     */
+    static <T> ElementCodec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new ElementCodec<T>() {
+            public void write(DataOutput out, T item) throws IOException {
+                writer.write(out, item);
+            }
+
+            public T read(DataInput in) throws IOException {
+                return reader.read(in);
+            }
+        };
+    }
+
+    /**
+     * Wraps a codec so that it also accepts `null` elements, at the cost of one
+     * extra byte per element
+     *
+     * @param codec The codec for the non-`null` elements
+     * @return The codec that allows `null`
+     */
+    static <T> ElementCodec<T> nullable(ElementCodec<T> codec) {
+        return of((out, item) -> {
+            out.writeBoolean(item != null);
+            if (item != null) {
+                codec.write(out, item);
+            }
+        }, in -> in.readBoolean() ? codec.read(in) : null);
+    }
+}
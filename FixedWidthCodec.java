@@ -0,0 +1,77 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how to store one element in a fixed number of bytes,
+ * for Dynamic Arrays whose storage is raw memory instead of Java objects.
+ * Elements cannot be `null`.
+ */
+public interface FixedWidthCodec<T> {
+    /** Stores an `Integer` in 4 bytes */
+    FixedWidthCodec<Integer> INT = of(Integer.BYTES, ByteBuffer::getInt, ByteBuffer::putInt);
+    /** Stores a `Long` in 8 bytes */
+    FixedWidthCodec<Long> LONG = of(Long.BYTES, ByteBuffer::getLong, ByteBuffer::putLong);
+    /** Stores a `Double` in 8 bytes */
+    FixedWidthCodec<Double> DOUBLE = of(Double.BYTES, ByteBuffer::getDouble, ByteBuffer::putDouble);
+
+    /**
+     * Returns the number of bytes one element takes
+     *
+     * @return The width in bytes
+     */
+    int width();
+
+    /**
+     * Reads the element stored at a byte offset
+     *
+     * @param buffer The memory to read from
+     * @param offset The byte offset of the element
+     * @return The element
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Stores an element at a byte offset
+     *
+     * @param buffer The memory to write to
+     * @param offset The byte offset of the element
+     * @param item   The element (not `null`)
+     */
+    void write(ByteBuffer buffer, int offset, T item);
+
+    /** Reads an element at an absolute byte offset */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(ByteBuffer buffer, int offset);
+    }
+
+    /** Writes an element at an absolute byte offset */
+    @FunctionalInterface
+    interface Writer<T> {
+        ByteBuffer write(ByteBuffer buffer, int offset, T item);
+    }
+
+    /**
+     * Makes a codec from a width and a reader/writer pair, e.g. for
+     * fixed-size records made of several primitive fields
+     *
+     * @param width  The number of bytes per element
+     * @param reader Reads an element at a byte offset
+     * @param writer Writes an element at a byte offset
+     * @return The codec
+     */
+    static <T> FixedWidthCodec<T> of(int width, Reader<T> reader, Writer<T> writer) {
+        return new FixedWidthCodec<T>() {
+            public int width() {
+                return width;
+            }
+
+            public T read(ByteBuffer buffer, int offset) {
+                return reader.read(buffer, offset);
+            }
+
+            public void write(ByteBuffer buffer, int offset, T item) {
+                writer.write(buffer, offset, item);
+            }
+        };
+    }
+}
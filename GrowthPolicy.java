@@ -0,0 +1,63 @@
+/**
+ * Decides how large the new storage of a `DynamicArray` should be
+ * once the current storage is full.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /** The largest array most JVMs will allocate */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** Default policy: double the storage, like most dynamic arrays */
+    GrowthPolicy DEFAULT = geometric(2.0);
+
+    /**
+     * Returns the capacity of the new storage
+     *
+     * @param currentCapacity The capacity of the full storage
+     * @param minCapacity     The smallest capacity that can hold the new element(s)
+     * @return The new capacity (never less than `minCapacity`)
+     */
+    int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Grows the storage by multiplying its capacity by a constant factor,
+     * which makes repeated appends amortized O(1)
+     *
+     * @param factor The growth factor (must be larger than 1)
+     * @return The geometric policy
+     * @throws IllegalArgumentException if the factor is not larger than 1
+     */
+    static GrowthPolicy geometric(double factor) throws IllegalArgumentException {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be larger than 1.");
+        }
+        return (currentCapacity, minCapacity) -> {
+            long grown = (long) (currentCapacity * factor);
+            return clamp(Math.max(grown, minCapacity));
+        };
+    }
+
+    /**
+     * Grows the storage by a fixed number of slots each time
+     *
+     * @param chunk The number of slots to add (must be positive)
+     * @return The fixed-chunk policy
+     * @throws IllegalArgumentException if the chunk is not positive
+     */
+    static GrowthPolicy fixedChunk(int chunk) throws IllegalArgumentException {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Growth chunk must be positive.");
+        }
+        return (currentCapacity, minCapacity) -> clamp(Math.max((long) currentCapacity + chunk, minCapacity));
+    }
+
+    /**
+     * Keeps a requested capacity within what an array can hold
+     *
+     * @param capacity The requested capacity
+     * @return The capacity, capped at `MAX_CAPACITY`
+     */
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,523 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only `DynamicArrayADT` that describes the result of whole-array
+ * operations instead of computing it.
+ *
+ * A LazyDynamicArray is a short list of pieces, each one a range of some
+ * source Dynamic Array. `append`, `insert`, `sublist`, `splitPrefix`,
+ * `splitSuffix`, `delete` and `extract` only rearrange those pieces (O(number
+ * of pieces), no elements are touched), so a chain such as
+ * `a.lazy().append(b).insert(i, c).sublist(x, y).delete(p, q)` allocates no
+ * intermediate arrays. `materialize`, `toArray` and the iterator then build
+ * the final elements in one pass, block-copying each piece straight out of
+ * its source.
+ *
+ * The sources are read when the result is built, not when it is described
+ * (like a `Stream`): structurally changing a `DynamicArray` source in between
+ * makes `materialize` throw `ConcurrentModificationException`.
+ */
+public class LazyDynamicArray<T> implements DynamicArrayADT<T> {
+    /** The elements copied per block while iterating */
+    static final int BLOCK = 256;
+
+    /** The Dynamic Array each piece is a range of */
+    private final DynamicArrayADT<?>[] sources;
+    /** The first index of each piece in its source (counted from 0) */
+    private final int[] offsets;
+    /** The index (in this array) just past each piece */
+    private final int[] ends;
+    /** The `modCount` of each `DynamicArray` source when the piece was taken */
+    private final int[] stamps;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Private constructor: descriptions are made with `of`/`DynamicArray.lazy()`
+     * and the whole-array operations
+     */
+    private LazyDynamicArray(DynamicArrayADT<?>[] sources, int[] offsets, int[] ends, int[] stamps) {
+        this.sources = sources;
+        this.offsets = offsets;
+        this.ends = ends;
+        this.stamps = stamps;
+    }
+
+    /**
+     * Returns a lazy view of a whole Dynamic Array (a LazyDynamicArray is
+     * returned as it is)
+     *
+     * @param source The Dynamic Array (any implementation)
+     * @return The lazy view
+     */
+    public static <T> LazyDynamicArray<T> of(DynamicArrayADT<T> source) {
+        if (source instanceof LazyDynamicArray) {
+            return (LazyDynamicArray<T>) source;
+        }
+        Pieces pieces = new Pieces(1);
+        pieces.add(source, 0, source.size());
+        return pieces.build();
+    }
+
+    /**
+     * Returns the number of pieces the description is made of
+     *
+     * @return The number of source ranges
+     */
+    int pieces() {
+        return this.sources.length;
+    }
+
+    /**
+     * Private utility to find the piece holding an index
+     */
+    private int pieceOf(int index) {
+        // The first piece whose end is past the index (pieces are never empty)
+        int found = Arrays.binarySearch(this.ends, index);
+        return found < 0 ? -found - 1 : found + 1;
+    }
+
+    /**
+     * Private utility to find where a piece starts in this array
+     */
+    private int startOf(int piece) {
+        return piece == 0 ? 0 : this.ends[piece - 1];
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > size()) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Private utility to return the source of a piece if it is a `DynamicArray`
+     * (checking that it was not structurally changed), or `null` otherwise
+     *
+     * @throws ConcurrentModificationException if the `DynamicArray` source was
+     *                                         structurally changed
+     */
+    private DynamicArray<?> checkedSource(int piece) {
+        if (!(this.sources[piece] instanceof DynamicArray)) {
+            return null;
+        }
+        DynamicArray<?> dynamicArray = (DynamicArray<?>) this.sources[piece];
+        if (dynamicArray.modCount != this.stamps[piece]) {
+            throw new ConcurrentModificationException();
+        }
+        return dynamicArray;
+    }
+
+    /**
+     * Private utility to block-copy part of a piece into an array
+     *
+     * @param piece       The piece
+     * @param from        The first element of the piece to copy (counted from
+     *                    the start of the piece)
+     * @param target      The array to copy into
+     * @param targetIndex The position in `target` for the first element
+     * @param count       The number of elements to copy
+     * @throws ConcurrentModificationException if a `DynamicArray` source was
+     *                                         structurally changed
+     */
+    private void copyPiece(int piece, int from, Object[] target, int targetIndex, int count) {
+        int offset = this.offsets[piece] + from;
+        DynamicArray<?> dynamicArray = checkedSource(piece);
+        if (dynamicArray != null) {
+            dynamicArray.copyRange(dynamicArray.low + offset, target, targetIndex, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                target[targetIndex + i] = this.sources[piece].get(offset + i);
+            }
+        }
+    }
+
+    /* MATERIALIZING */
+    /**
+     * Computes the described elements into a new `DynamicArray`, copying each
+     * piece as one block
+     *
+     * @return The new Dynamic Array
+     * @throws ConcurrentModificationException if a `DynamicArray` source was
+     *                                         structurally changed
+     */
+    public DynamicArray<T> materialize() throws ConcurrentModificationException {
+        int size = size();
+        DynamicArray<T> newDA = new DynamicArray<>(size);
+        copyTo(newDA.storage);
+        newDA.high = size - 1;
+        return newDA;
+    }
+
+    /**
+     * Computes the described elements into a new array
+     *
+     * @return A new array holding the elements in order
+     * @throws ConcurrentModificationException if a `DynamicArray` source was
+     *                                         structurally changed
+     */
+    public Object[] toArray() throws ConcurrentModificationException {
+        Object[] copy = new Object[size()];
+        copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * Private utility to copy every piece, in order, into an array
+     */
+    private void copyTo(Object[] target) {
+        for (int piece = 0; piece < this.sources.length; piece++) {
+            int start = startOf(piece);
+            copyPiece(piece, 0, target, start, this.ends[piece] - start);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `LazyDynamicArray`
+     */
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Not supported: the description is read-only (see `materialize`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public T set(int index, T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is lazy; use materialize first.");
+    }
+
+    /**
+     * Gets the value from a given index, reading it from its source
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException       for invalid indices
+     * @throws ConcurrentModificationException if a `DynamicArray` source was
+     *                                         structurally changed
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException, ConcurrentModificationException {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        int piece = pieceOf(index);
+        int offset = this.offsets[piece] + index - startOf(piece);
+        // Same as copyPiece: DynamicArray sources count from their lowest index
+        DynamicArray<?> dynamicArray = checkedSource(piece);
+        if (dynamicArray != null) {
+            return (T) dynamicArray.get(dynamicArray.low + offset);
+        }
+        return (T) this.sources[piece].get(offset);
+    }
+
+    /**
+     * Returns the number of elements the description stands for
+     *
+     * @return The size of the LazyDynamicArray
+     */
+    public int size() {
+        return this.ends.length == 0 ? 0 : this.ends[this.ends.length - 1];
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Not supported: the description is read-only (see `append`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void add(T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is lazy; use materialize first.");
+    }
+
+    /**
+     * Not supported: the description is read-only (see `insert`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void add(int index, T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is lazy; use materialize first.");
+    }
+
+    /**
+     * Not supported: the description is read-only (see `delete`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public T remove(int index) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is lazy; use materialize first.");
+    }
+
+    /* ITERATION */
+    /**
+     * Returns an iterator that block-copies the elements a few hundred at a
+     * time, piece by piece
+     *
+     * @return The iterator
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** The elements of the current block */
+            final Object[] block = new Object[Math.min(BLOCK, size())];
+            /** The next position to return from `block` */
+            int position = 0;
+            /** The number of elements in `block` */
+            int filled = 0;
+            /** The piece the next block comes from */
+            int piece = 0;
+            /** The next element of `piece` to copy */
+            int inPiece = 0;
+
+            public boolean hasNext() {
+                return this.position < this.filled || this.piece < LazyDynamicArray.this.sources.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (this.position == this.filled) {
+                    // Copy the next block of the current piece
+                    int pieceSize = LazyDynamicArray.this.ends[this.piece] - startOf(this.piece);
+                    int count = Math.min(this.block.length, pieceSize - this.inPiece);
+                    copyPiece(this.piece, this.inPiece, this.block, 0, count);
+                    this.inPiece += count;
+                    if (this.inPiece == pieceSize) {
+                        this.piece++;
+                        this.inPiece = 0;
+                    }
+                    this.position = 0;
+                    this.filled = count;
+                }
+                return (T) this.block[this.position++];
+            }
+        };
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Private utility to add the pieces covering a range of this array
+     */
+    private void addRange(Pieces pieces, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        for (int piece = pieceOf(fromIndex); piece < this.sources.length; piece++) {
+            int start = startOf(piece);
+            if (start >= toIndex) {
+                break;
+            }
+            // Clip the piece to the range
+            int from = Math.max(fromIndex, start);
+            int to = Math.min(toIndex, this.ends[piece]);
+            pieces.add(this.sources[piece], this.offsets[piece] + from - start, to - from, this.stamps[piece]);
+        }
+    }
+
+    /**
+     * Describes two Dynamic Arrays one after the other
+     *
+     * @param secondDA The second Dynamic Array (any implementation)
+     * @return The resulting LazyDynamicArray
+     */
+    public LazyDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        LazyDynamicArray<T> second = of(secondDA);
+        Pieces pieces = new Pieces(this.sources.length + second.sources.length);
+        addRange(pieces, 0, size());
+        second.addRange(pieces, 0, second.size());
+        return pieces.build();
+    }
+
+    /**
+     * Describes a Dynamic Array inserted at a specified index
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted (any implementation)
+     * @return The resulting LazyDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LazyDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        LazyDynamicArray<T> inserted = of(newDA);
+        Pieces pieces = new Pieces(this.sources.length + inserted.sources.length + 1);
+        // 1. Elements before the index, 2. the inserted elements, 3. the rest
+        addRange(pieces, 0, index);
+        inserted.addRange(pieces, 0, inserted.size());
+        addRange(pieces, index, size());
+        return pieces.build();
+    }
+
+    /**
+     * Describes the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A LazyDynamicArray of the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public LazyDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == 0 && toIndex == size()) {
+            return this;
+        }
+        Pieces pieces = new Pieces(this.sources.length);
+        addRange(pieces, fromIndex, toIndex);
+        return pieces.build();
+    }
+
+    /**
+     * Describes the elements before a specified index
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A LazyDynamicArray of the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LazyDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Describes the elements from a specified index and after
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A LazyDynamicArray of the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LazyDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, size());
+        return sublist(fromIndex, size());
+    }
+
+    /**
+     * Describes the elements without a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting LazyDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public LazyDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        Pieces pieces = new Pieces(this.sources.length + 1);
+        addRange(pieces, 0, fromIndex);
+        addRange(pieces, toIndex, size());
+        return pieces.build();
+    }
+
+    /**
+     * Describes a specified range (the same as `sublist`)
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A LazyDynamicArray of the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public LazyDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+
+    /**
+     * Collects the pieces of a new description, dropping empty ranges and
+     * joining a range onto the previous one when it continues it in the same
+     * source
+     */
+    private static class Pieces {
+        /** The source of each piece */
+        DynamicArrayADT<?>[] sources;
+        /** The first source index of each piece */
+        int[] offsets;
+        /** The end (in the result) of each piece */
+        int[] ends;
+        /** The source `modCount` of each piece */
+        int[] stamps;
+        /** The number of pieces so far */
+        int count;
+
+        /**
+         * Basic constructor
+         *
+         * @param capacity The most pieces expected
+         */
+        Pieces(int capacity) {
+            this.sources = new DynamicArrayADT<?>[capacity];
+            this.offsets = new int[capacity];
+            this.ends = new int[capacity];
+            this.stamps = new int[capacity];
+        }
+
+        /**
+         * Adds a whole range of a source, stamped with its current `modCount`
+         */
+        void add(DynamicArrayADT<?> source, int offset, int length) {
+            int stamp = source instanceof DynamicArray ? ((DynamicArray<?>) source).modCount : 0;
+            add(source, offset, length, stamp);
+        }
+
+        /**
+         * Adds a range of a source
+         */
+        void add(DynamicArrayADT<?> source, int offset, int length, int stamp) {
+            if (length == 0) {
+                return;
+            }
+            int end = (this.count == 0 ? 0 : this.ends[this.count - 1]) + length;
+            int last = this.count - 1;
+            // 1. Continues the previous piece: just extend it
+            if (last >= 0 && this.sources[last] == source && this.stamps[last] == stamp
+                    && this.offsets[last] + this.ends[last] - (last == 0 ? 0 : this.ends[last - 1]) == offset) {
+                this.ends[last] = end;
+                return;
+            }
+            // 2. Otherwise start a new piece
+            if (this.count == this.sources.length) {
+                int capacity = this.count * 2 + 1;
+                this.sources = Arrays.copyOf(this.sources, capacity);
+                this.offsets = Arrays.copyOf(this.offsets, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.stamps = Arrays.copyOf(this.stamps, capacity);
+            }
+            this.sources[this.count] = source;
+            this.offsets[this.count] = offset;
+            this.ends[this.count] = end;
+            this.stamps[this.count] = stamp;
+            this.count++;
+        }
+
+        /**
+         * Makes the description (trimmed to the number of pieces)
+         */
+        <T> LazyDynamicArray<T> build() {
+            return new LazyDynamicArray<>(Arrays.copyOf(this.sources, this.count),
+                    Arrays.copyOf(this.offsets, this.count), Arrays.copyOf(this.ends, this.count),
+                    Arrays.copyOf(this.stamps, this.count));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LazyDynamicArrayTests {
+
+    private DynamicArray<Integer> numbers;
+    private DynamicArray<Integer> letters;
+
+    /**
+     * Initializes two Dynamic Arrays (0..9 and 100..104) to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        numbers = range(0, 10);
+        letters = range(100, 105);
+    }
+
+    /**
+     * Builds a Dynamic Array holding from..to-1
+     */
+    public DynamicArray<Integer> range(int from, int to) {
+        DynamicArray<Integer> result = new DynamicArray<>(0);
+        for (int i = from; i < to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    // ~*~*~*~*~ Pipeline Tests Below ~*~*~*~*~
+    /**
+     * Tests that a chain of operations gives the same elements as the eager
+     * `DynamicArray` operations
+     */
+    @Test
+    public void testChainMatchesEager() {
+        DynamicArray<Integer> eager = numbers.append(letters).insert(3, letters).sublist(2, 17).delete(4, 9);
+        LazyDynamicArray<Integer> lazy = numbers.lazy().append(letters).insert(3, letters).sublist(2, 17)
+                .delete(4, 9);
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(eager.toString(), lazy.materialize().toString());
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            assertEquals(eager.get(i), lazy.get(i));
+        }
+        List<Integer> iterated = new ArrayList<>();
+        for (int item : lazy) {
+            iterated.add(item);
+        }
+        assertEquals(eager.toString(), iterated.toString());
+    }
+
+    /**
+     * Tests that describing a result keeps only a few pieces, and that ranges
+     * continuing each other in the same source are joined
+     */
+    @Test
+    public void testPiecesStaySmall() {
+        LazyDynamicArray<Integer> lazy = numbers.lazy().delete(3, 6);
+        assertEquals(2, lazy.pieces());
+        assertEquals(1, lazy.insert(3, numbers.lazy().sublist(3, 6)).pieces());
+        assertEquals(1, numbers.lazy().splitPrefix(4).append(numbers.lazy().splitSuffix(4)).pieces());
+        assertEquals(0, numbers.lazy().delete(0, 10).pieces());
+        assertEquals("[]", numbers.lazy().delete(0, 10).materialize().toString());
+    }
+
+    /**
+     * Tests that the iterator copies across block and piece boundaries
+     */
+    @Test
+    public void testIteratesLargePieces() {
+        DynamicArray<Integer> big = range(0, 1000);
+        LazyDynamicArray<Integer> lazy = big.lazy().insert(500, big.lazy().sublist(0, 300)).delete(0, 10);
+        Object[] expected = lazy.toArray();
+        int i = 0;
+        for (int item : lazy) {
+            assertEquals(expected[i++], item);
+        }
+        assertEquals(1290, i);
+    }
+
+    /**
+     * Tests that other implementations can be pieces too
+     */
+    @Test
+    public void testOtherSources() {
+        PersistentDynamicArray<Integer> persistent = PersistentDynamicArray.of(7, 8, 9);
+        LazyDynamicArray<Integer> lazy = LazyDynamicArray.of(persistent).insert(1, letters).splitSuffix(2);
+        assertEquals("[101, 102, 103, 104, 8, 9]", lazy.toString());
+    }
+
+    /**
+     * Tests the index checks and the read-only operations
+     */
+    @Test
+    public void testChecks() {
+        LazyDynamicArray<Integer> lazy = numbers.lazy();
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.sublist(0, 11));
+        assertThrows(IllegalArgumentException.class, () -> lazy.delete(5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.insert(11, letters));
+        assertThrows(UnsupportedOperationException.class, () -> lazy.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> lazy.set(0, 1));
+    }
+
+    /**
+     * Tests that in-place writes to a source show up, and structural changes
+     * are detected when materializing
+     */
+    @Test
+    public void testSourceChanges() {
+        LazyDynamicArray<Integer> lazy = numbers.lazy().append(letters);
+        numbers.set(0, -1);
+        assertEquals(Integer.valueOf(-1), lazy.materialize().get(0));
+        letters.add(105);
+        assertThrows(ConcurrentModificationException.class, () -> lazy.materialize());
+        assertThrows(ConcurrentModificationException.class, () -> lazy.get(12));
+    }
+
+    /**
+     * Tests that `get` reads a source whose lowest index is not 0 at the same
+     * positions as materializing does
+     */
+    @Test
+    public void testSourceWithLowIndex() {
+        DynamicArray<Integer> middle = new DynamicArray<>(numbers, 2, 4);
+        LazyDynamicArray<Integer> lazy = middle.lazy().append(letters);
+        assertEquals("[2, 3, 4, 100, 101, 102, 103, 104]", lazy.materialize().toString());
+        for (int i = 0; i < lazy.size(); i++) {
+            assertEquals(lazy.materialize().get(i), lazy.get(i));
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/**
+ * A `DynamicArray` specialized for primitive `long` values.
+ * The values are stored unboxed in an `long[]`, so each element takes
+ * 8 bytes and reading one does not follow a pointer to a `Long`.
+ */
+public class LongDynamicArray {
+    /** The number of elements in the LongDynamicArray */
+    int size;
+    /** The available storage within the LongDynamicArray */
+    long[] storage;
+    /** Decides how much the storage grows when it is full */
+    GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /** Decides when the storage gives back unused space after a removal */
+    ShrinkPolicy shrinkPolicy = ShrinkPolicy.DEFAULT;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty LongDynamicArray with room for
+     * `capacity` elements
+     * 
+     * @param capacity The initial capacity
+     */
+    public LongDynamicArray(int capacity) {
+        this.storage = new long[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Makes a deep copy of an existing LongDynamicArray
+     * 
+     * @param original The original LongDynamicArray
+     */
+    public LongDynamicArray(LongDynamicArray original) {
+        this(original.storage, 0, original.size);
+        this.growthPolicy = original.growthPolicy;
+        this.shrinkPolicy = original.shrinkPolicy;
+    }
+
+    /**
+     * Private constructor that copies a range of a primitive array
+     * 
+     * @param source    The array to copy from
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     */
+    private LongDynamicArray(long[] source, int fromIndex, int toIndex) {
+        this.size = toIndex - fromIndex;
+        this.storage = new long[this.size];
+        System.arraycopy(source, fromIndex, this.storage, 0, this.size);
+    }
+
+    /**
+     * Makes a LongDynamicArray holding a copy of the given values
+     * 
+     * @param values The values, in order
+     * @return The new LongDynamicArray
+     */
+    public static LongDynamicArray of(long... values) {
+        return new LongDynamicArray(values, 0, values.length);
+    }
+
+    /**
+     * Private utility to move the elements into storage of a new capacity
+     * 
+     * @param newCapacity The capacity of the new storage
+     */
+    private void resize(int newCapacity) {
+        long[] tempArr = new long[newCapacity];
+        System.arraycopy(this.storage, 0, tempArr, 0, this.size);
+        this.storage = tempArr;
+    }
+
+    /**
+     * Returns how many elements the current storage can hold before it has to grow
+     * 
+     * @return The capacity of the storage
+     */
+    public int capacity() {
+        return this.storage.length;
+    }
+
+    /**
+     * Grows the storage (using the growth policy) so that it can hold at least
+     * `minCapacity` elements without reallocating
+     * 
+     * @param minCapacity The required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.storage.length) {
+            resize(this.growthPolicy.grow(this.storage.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the storage so that it holds exactly the elements of the LongDynamicArray
+     */
+    public void trimToSize() {
+        if (this.storage.length > this.size) {
+            resize(this.size);
+        }
+    }
+
+    /**
+     * Replaces the policy used to grow the storage when it is full
+     * 
+     * @param growthPolicy The new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to shrink the storage after removals
+     * 
+     * @param shrinkPolicy The new shrink policy
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Checks to see if an index holds an element of the LongDynamicArray
+     * 
+     * @param index The specified index
+     * @return True/False - If the index is within the LongDynamicArray
+     */
+    public boolean indexInRange(int index) {
+        return 0 <= index && index < this.size;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Returns a copy of the elements as a plain `long[]`
+     * 
+     * @return The elements, in order
+     */
+    public long[] toArray() {
+        long[] result = new long[this.size];
+        System.arraycopy(this.storage, 0, result, 0, this.size);
+        return result;
+    }
+
+    /**
+     * Create a String representation of the current `LongDynamicArray`
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder((int) Math.min(2L + 4L * this.size, GrowthPolicy.MAX_CAPACITY)).append('[');
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.storage[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value
+     * 
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public long set(int index, long item) throws IndexOutOfBoundsException {
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        long previousItem = this.storage[index];
+        this.storage[index] = item;
+        return previousItem;
+    }
+
+    /**
+     * Gets the value from a given index of the LongDynamicArray
+     * 
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public long get(int index) throws IndexOutOfBoundsException {
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return this.storage[index];
+    }
+
+    /**
+     * Returns the actual number of elements in the LongDynamicArray
+     * 
+     * @return The size of the LongDynamicArray
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the LongDynamicArray
+     * 
+     * @param item The new item to be added
+     */
+    public void add(long item) {
+        ensureCapacity(this.size + 1);
+        this.storage[this.size] = item;
+        this.size++;
+    }
+
+    /**
+     * Adds an item to the LongDynamicArray at the specified index
+     * Shifts every item after the index to the right by 1
+     * 
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, long item) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        ensureCapacity(this.size + 1);
+        // Shift all subsequent elements to the right by 1
+        System.arraycopy(this.storage, index, this.storage, index + 1, this.size - index);
+        this.storage[index] = item;
+        this.size++;
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     * 
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public long remove(int index) throws IndexOutOfBoundsException {
+        long removedItem = get(index);
+        // Shift all subsequent elements to the left by 1
+        System.arraycopy(this.storage, index + 1, this.storage, index, this.size - index - 1);
+        this.size--;
+        // Give back storage if the shrink policy says so
+        int newCapacity = this.shrinkPolicy.shrink(this.storage.length, this.size);
+        if (newCapacity < this.storage.length) {
+            resize(Math.max(newCapacity, this.size));
+        }
+        return removedItem;
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two LongDynamicArrays
+     * 
+     * @param secondDA The second LongDynamicArray
+     * @return The resulting LongDynamicArray
+     */
+    public LongDynamicArray append(LongDynamicArray secondDA) {
+        return insert(this.size, secondDA);
+    }
+
+    /**
+     * Inserts a LongDynamicArray into the current one at a specified index
+     * 
+     * @param index The specific index for insertion
+     * @param newDA The LongDynamicArray to be inserted
+     * @return The resulting LongDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LongDynamicArray insert(int index, LongDynamicArray newDA) throws IndexOutOfBoundsException {
+        checkRange(index, this.size);
+        LongDynamicArray fullDA = new LongDynamicArray(this.size + newDA.size);
+        // 1. Copy elements before the index, 2. the inserted elements, 3. the rest
+        System.arraycopy(this.storage, 0, fullDA.storage, 0, index);
+        System.arraycopy(newDA.storage, 0, fullDA.storage, index, newDA.size);
+        System.arraycopy(this.storage, index, fullDA.storage, index + newDA.size, this.size - index);
+        fullDA.size = this.size + newDA.size;
+        return fullDA;
+    }
+
+    /**
+     * Returns a copy of the current LongDynamicArray in a specified range
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public LongDynamicArray sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return new LongDynamicArray(this.storage, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the elements before a specified index as a new LongDynamicArray
+     * 
+     * @param toIndex The ending index (Exclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LongDynamicArray splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after as a new LongDynamicArray
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @return A copy containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public LongDynamicArray splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(0, fromIndex);
+        return sublist(fromIndex, this.size);
+    }
+
+    /**
+     * Deletes items at a specified range in the current LongDynamicArray
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A copy of the resulting LongDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public LongDynamicArray delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        int removed = toIndex - fromIndex;
+        LongDynamicArray newDA = new LongDynamicArray(this.size - removed);
+        // 1. Copy elements before fromIndex, 2. elements from toIndex on
+        System.arraycopy(this.storage, 0, newDA.storage, 0, fromIndex);
+        System.arraycopy(this.storage, toIndex, newDA.storage, fromIndex, this.size - toIndex);
+        newDA.size = this.size - removed;
+        return newDA;
+    }
+
+    /**
+     * Creates a new LongDynamicArray from a specified range of the current one
+     * 
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new LongDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public LongDynamicArray extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
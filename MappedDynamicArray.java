@@ -0,0 +1,197 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An `OffHeapDynamicArray` whose storage is a memory-mapped file.
+ * Opening a saved array only maps the file, so it takes the same time for
+ * any size; the operating system pages elements in as they are read.
+ * Every `set`/`add`/`remove` writes straight into the mapping, and `force()`
+ * makes sure the changes have reached the disk.
+ *
+ * The file starts with a small header (magic number, element width, byte
+ * order and size) followed by the elements.
+ */
+public class MappedDynamicArray<T> extends OffHeapDynamicArray<T> {
+    /** Marks a file written by MappedDynamicArray ("DYNA") */
+    static final int MAGIC = 0x44594E41;
+    /** The number of bytes before the first element */
+    static final int HEADER_SIZE = 16;
+    /** The byte offset of the size in the header */
+    private static final int SIZE_OFFSET = 12;
+
+    /** The open data file */
+    private final FileChannel channel;
+    /** The mapped header (kept separate so the data mapping starts at element 0) */
+    private final MappedByteBuffer header;
+
+    /* CONSTRUCTORS */
+    /**
+     * Private constructor used by `open` once the file has been mapped
+     */
+    private MappedDynamicArray(FixedWidthCodec<T> codec, FileChannel channel, MappedByteBuffer header,
+            ByteBuffer storage, int size) {
+        super(codec, storage, size);
+        this.channel = channel;
+        this.header = header;
+        // The file never gives back space, so only remap when asked to trim
+        this.shrinkPolicy = ShrinkPolicy.never();
+    }
+
+    /**
+     * Opens (or creates) a file-backed Dynamic Array.
+     * An existing file is mapped as is, without reading its elements.
+     *
+     * @param file  The data file
+     * @param codec How elements are stored (must match the one used to write the file)
+     * @return The MappedDynamicArray
+     * @throws IOException              if the file cannot be opened or is not a
+     *                                  Dynamic Array file
+     * @throws IllegalArgumentException if the file was written with a different
+     *                                  element width
+     */
+    public static <T> MappedDynamicArray<T> open(Path file, FixedWidthCodec<T> codec)
+            throws IOException, IllegalArgumentException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            if (!created && channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a Dynamic Array file: " + file);
+            }
+            // 1. Map and check (or write) the header
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (created) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, codec.width());
+                header.putInt(8, ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1);
+                header.putInt(SIZE_OFFSET, 0);
+            } else if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a Dynamic Array file: " + file);
+            } else if (header.getInt(4) != codec.width()) {
+                throw new IllegalArgumentException("The file stores " + header.getInt(4)
+                        + "-byte elements, but the codec is " + codec.width() + " bytes wide.");
+            }
+            ByteOrder order = header.getInt(8) == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            int size = header.getInt(SIZE_OFFSET);
+            // 2. Map every element slot the file already has
+            long slots = (channel.size() - HEADER_SIZE) / codec.width();
+            int capacity = (int) Math.min(Math.max(slots, size), Integer.MAX_VALUE / codec.width());
+            ByteBuffer storage = map(channel, capacity * codec.width()).order(order);
+            return new MappedDynamicArray<>(codec, channel, header, storage, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Private utility to map the data region of the file (growing the file if needed)
+     */
+    private static MappedByteBuffer map(FileChannel channel, int bytes) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, bytes);
+    }
+
+    /**
+     * Private utility to write the current size through to the header
+     */
+    private void writeSize() {
+        this.header.putInt(SIZE_OFFSET, this.size);
+    }
+
+    /**
+     * Maps a larger (or smaller) part of the file and unmaps the old part.
+     * The elements are already in the file, so nothing is copied.
+     *
+     * @param newCapacity The capacity of the new mapping
+     */
+    @Override
+    void resize(int newCapacity) {
+        if (this.storage == null) {
+            throw new IllegalStateException("The off-heap storage has been closed.");
+        }
+        ByteBuffer oldStorage = this.storage;
+        try {
+            this.storage = map(this.channel, newCapacity * this.width).order(oldStorage.order());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        free(oldStorage);
+    }
+
+    /**
+     * Writes every change made so far to the disk
+     */
+    public void force() {
+        if (this.storage == null) {
+            throw new IllegalStateException("The off-heap storage has been closed.");
+        }
+        ((MappedByteBuffer) this.storage).force();
+        this.header.force();
+    }
+
+    /**
+     * Flushes the changes, unmaps the file and closes it. The array cannot be
+     * used afterwards.
+     */
+    @Override
+    public void close() {
+        if (this.storage == null) {
+            return;
+        }
+        force();
+        super.close();
+        free(this.header);
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the MappedDynamicArray
+     *
+     * @param item The new item to be added (not `null`)
+     */
+    @Override
+    public void add(T item) {
+        super.add(item);
+        writeSize();
+    }
+
+    /**
+     * Adds an item to the MappedDynamicArray at the specified index
+     * Shifts every item after the index to the right by 1
+     *
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added (not `null`)
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @Override
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        super.add(index, item);
+        writeSize();
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @Override
+    public T remove(int index) throws IndexOutOfBoundsException {
+        T removedItem = super.remove(index);
+        writeSize();
+        return removedItem;
+    }
+}
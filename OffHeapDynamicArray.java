@@ -0,0 +1,495 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A `DynamicArrayADT` of fixed-width elements stored outside the Java heap.
+ * The elements live in a direct `ByteBuffer` (one `FixedWidthCodec.width()`
+ * slot each), so the garbage collector never scans or copies them and the
+ * size of the array does not affect GC pauses.
+ * Call `close()` when done: it frees the native memory right away instead of
+ * waiting for the garbage collector, and a resize frees the old block too.
+ *
+ * Buffer offsets are `int`s, so the storage is limited to 2 GB
+ * (`Integer.MAX_VALUE / width` elements).
+ */
+public class OffHeapDynamicArray<T> implements DynamicArrayADT<T>, AutoCloseable {
+    /** How elements are turned into bytes */
+    final FixedWidthCodec<T> codec;
+    /** The number of bytes per element */
+    final int width;
+    /** The native memory holding the elements (`null` once closed) */
+    ByteBuffer storage;
+    /** The number of elements in the OffHeapDynamicArray */
+    int size;
+    /** Decides how much the storage grows when it is full */
+    GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /** Decides when the storage gives back unused space after a removal */
+    ShrinkPolicy shrinkPolicy = ShrinkPolicy.DEFAULT;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+    /** Frees a direct buffer's native memory now (`null` if this JDK does not allow it) */
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty OffHeapDynamicArray with room for
+     * `capacity` elements
+     *
+     * @param codec    How elements are stored
+     * @param capacity The initial capacity
+     */
+    public OffHeapDynamicArray(FixedWidthCodec<T> codec, int capacity) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.storage = allocate(capacity);
+        this.size = 0;
+    }
+
+    /**
+     * Constructor for subclasses that supply their own storage, such as a
+     * mapped file
+     *
+     * @param codec   How elements are stored
+     * @param storage The memory holding the elements
+     * @param size    The number of elements already in the storage
+     */
+    OffHeapDynamicArray(FixedWidthCodec<T> codec, ByteBuffer storage, int size) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.storage = storage;
+        this.size = size;
+    }
+
+    /**
+     * Private utility to allocate native memory for `capacity` elements
+     *
+     * @param capacity The number of elements
+     * @return The direct buffer (in the platform's byte order)
+     */
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(capacity, this.width)).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Private utility to find `sun.misc.Unsafe.invokeCleaner`, which frees the
+     * native memory of a direct buffer without waiting for the garbage collector
+     *
+     * @return The method bound to `Unsafe` (`null` if it is not accessible)
+     */
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .unreflect(unsafeClass.getMethod("invokeCleaner", ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available: the memory is freed when the buffer becomes unreachable
+            return null;
+        }
+    }
+
+    /**
+     * Frees the native memory of storage that is no longer used. The buffer
+     * must not be read or written afterwards.
+     *
+     * @param buffer The storage to free
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null && buffer != null && buffer.isDirect()) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Private utility to check that the storage has not been closed
+     *
+     * @return The storage
+     * @throws IllegalStateException if the array has been closed
+     */
+    private ByteBuffer open() throws IllegalStateException {
+        if (this.storage == null) {
+            throw new IllegalStateException("The off-heap storage has been closed.");
+        }
+        return this.storage;
+    }
+
+    /**
+     * Moves the elements into storage of a new capacity
+     * (a new native block; the old one is freed right away)
+     *
+     * @param newCapacity The capacity of the new storage
+     */
+    void resize(int newCapacity) {
+        ByteBuffer oldStorage = open();
+        // Keep the byte order, since the bytes are copied as they are
+        ByteBuffer newStorage = allocate(newCapacity).order(oldStorage.order());
+        newStorage.put(0, oldStorage, 0, this.size * this.width);
+        this.storage = newStorage;
+        free(oldStorage);
+    }
+
+    /**
+     * Private utility to move `count` elements from one index to another
+     * within the storage (the ranges may overlap)
+     */
+    private void move(int fromIndex, int toIndex, int count) {
+        ByteBuffer buffer = open();
+        buffer.put(toIndex * this.width, buffer.duplicate(), fromIndex * this.width, count * this.width);
+    }
+
+    /**
+     * Private utility to copy the elements of another Dynamic Array into this
+     * one's storage, as raw bytes when it is an OffHeapDynamicArray with the
+     * same codec and byte order (another codec of the same width, or a file
+     * mapped in the other byte order, lays the bytes out differently)
+     */
+    private void copyFrom(DynamicArrayADT<T> source, int toIndex) {
+        OffHeapDynamicArray<T> other = source instanceof OffHeapDynamicArray ? (OffHeapDynamicArray<T>) source : null;
+        if (other != null && other.codec.equals(this.codec) && other.open().order() == open().order()) {
+            open().put(toIndex * this.width, other.open(), 0, other.size * this.width);
+        } else {
+            for (int i = 0; i < source.size(); i++) {
+                this.codec.write(open(), (toIndex + i) * this.width, source.get(i));
+            }
+        }
+    }
+
+    /**
+     * Private utility to make an empty OffHeapDynamicArray for the result of a
+     * whole-array operation, in this one's byte order so that elements can be
+     * copied into it as raw bytes
+     *
+     * @param capacity The capacity of the result
+     */
+    private OffHeapDynamicArray<T> newResult(int capacity) {
+        OffHeapDynamicArray<T> result = new OffHeapDynamicArray<>(this.codec, capacity);
+        result.storage.order(open().order());
+        return result;
+    }
+
+    /**
+     * Private utility to make a new OffHeapDynamicArray holding the elements in
+     * [fromIndex, toIndex) of this one
+     */
+    private OffHeapDynamicArray<T> copyRange(int fromIndex, int toIndex) {
+        OffHeapDynamicArray<T> result = newResult(toIndex - fromIndex);
+        result.storage.put(0, open(), fromIndex * this.width, (toIndex - fromIndex) * this.width);
+        result.size = toIndex - fromIndex;
+        return result;
+    }
+
+    /**
+     * Gives back the native memory now. The array cannot be used afterwards.
+     * (Calling it again does nothing.)
+     */
+    public void close() {
+        ByteBuffer oldStorage = this.storage;
+        this.storage = null;
+        this.size = 0;
+        free(oldStorage);
+    }
+
+    /**
+     * Returns how many elements the current storage can hold before it has to grow
+     *
+     * @return The capacity of the storage
+     */
+    public int capacity() {
+        return open().capacity() / this.width;
+    }
+
+    /**
+     * Grows the storage (using the growth policy) so that it can hold at least
+     * `minCapacity` elements without reallocating
+     *
+     * @param minCapacity The required capacity
+     * @throws IllegalStateException if that is more than 2 GB of storage
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalStateException {
+        int capacity = this.capacity();
+        if (minCapacity > capacity) {
+            int maxCapacity = Integer.MAX_VALUE / this.width;
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("The off-heap storage is limited to " + maxCapacity + " elements.");
+            }
+            resize(Math.min(this.growthPolicy.grow(capacity, minCapacity), maxCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the storage so that it holds exactly the elements of the array
+     */
+    public void trimToSize() {
+        if (this.capacity() > this.size) {
+            resize(this.size);
+        }
+    }
+
+    /**
+     * Replaces the policy used to grow the storage when it is full
+     *
+     * @param growthPolicy The new growth policy
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Replaces the policy used to shrink the storage after removals
+     *
+     * @param shrinkPolicy The new shrink policy
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Checks to see if an index holds an element of the OffHeapDynamicArray
+     *
+     * @param index The specified index
+     * @return True/False - If the index is within the OffHeapDynamicArray
+     */
+    public boolean indexInRange(int index) {
+        return 0 <= index && index < this.size;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `OffHeapDynamicArray`
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.get(i));
+        }
+        return builder.append("]").toString();
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting (not `null`)
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T set(int index, T item) throws IndexOutOfBoundsException {
+        T previousItem = this.get(index);
+        this.codec.write(this.storage, index * this.width, item);
+        return previousItem;
+    }
+
+    /**
+     * Gets the value from a given index of the OffHeapDynamicArray
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T get(int index) throws IndexOutOfBoundsException {
+        ByteBuffer buffer = open();
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return this.codec.read(buffer, index * this.width);
+    }
+
+    /**
+     * Returns the actual number of elements in the OffHeapDynamicArray
+     *
+     * @return The size of the OffHeapDynamicArray
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the OffHeapDynamicArray
+     *
+     * @param item The new item to be added (not `null`)
+     */
+    public void add(T item) {
+        ensureCapacity(this.size + 1);
+        this.codec.write(this.storage, this.size * this.width, item);
+        this.size++;
+    }
+
+    /**
+     * Adds an item to the OffHeapDynamicArray at the specified index
+     * Shifts every item after the index to the right by 1
+     *
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added (not `null`)
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        ensureCapacity(this.size + 1);
+        move(index, index + 1, this.size - index);
+        this.codec.write(this.storage, index * this.width, item);
+        this.size++;
+    }
+
+    /**
+     * Removes an item at a specified index
+     * Shifts subsequent elements to the left
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T remove(int index) throws IndexOutOfBoundsException {
+        T removedItem = this.get(index);
+        move(index + 1, index, this.size - index - 1);
+        this.size--;
+        // Give back storage if the shrink policy says so
+        int capacity = this.capacity();
+        int newCapacity = this.shrinkPolicy.shrink(capacity, this.size);
+        if (newCapacity < capacity) {
+            resize(Math.max(newCapacity, this.size));
+        }
+        return removedItem;
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays into new off-heap storage
+     *
+     * @param secondDA The second Dynamic Array
+     * @return The resulting OffHeapDynamicArray
+     */
+    public OffHeapDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        return insert(this.size, secondDA);
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index, into new off-heap storage
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted
+     * @return The resulting OffHeapDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public OffHeapDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        checkRange(index, this.size);
+        int added = newDA.size();
+        OffHeapDynamicArray<T> fullDA = newResult(this.size + added);
+        // 1. Copy elements before the index, 2. the inserted elements, 3. the rest
+        fullDA.storage.put(0, open(), 0, index * this.width);
+        fullDA.copyFrom(newDA, index);
+        fullDA.storage.put((index + added) * this.width, this.storage, index * this.width,
+                (this.size - index) * this.width);
+        fullDA.size = this.size + added;
+        return fullDA;
+    }
+
+    /**
+     * Returns a copy of the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new OffHeapDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public OffHeapDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return copyRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the elements before a specified index
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new OffHeapDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public OffHeapDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new OffHeapDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public OffHeapDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, this.size);
+        return sublist(fromIndex, this.size);
+    }
+
+    /**
+     * Deletes items at a specified range, into new off-heap storage
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting OffHeapDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public OffHeapDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        int kept = this.size - (toIndex - fromIndex);
+        OffHeapDynamicArray<T> newDA = newResult(kept);
+        // 1. Copy elements before fromIndex, 2. elements from toIndex on
+        newDA.storage.put(0, open(), 0, fromIndex * this.width);
+        newDA.storage.put(fromIndex * this.width, this.storage, toIndex * this.width,
+                (this.size - toIndex) * this.width);
+        newDA.size = kept;
+        return newDA;
+    }
+
+    /**
+     * Creates a new OffHeapDynamicArray from a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new OffHeapDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public OffHeapDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
@@ -0,0 +1,255 @@
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class OffHeapDynamicArrayTests {
+
+    private OffHeapDynamicArray<Integer> ints;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Initializes an off-heap array holding 0..9 to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        ints = new OffHeapDynamicArray<>(FixedWidthCodec.INT, 4);
+        for (int i = 0; i < 10; i++) {
+            ints.add(i);
+        }
+    }
+
+    /**
+     * Gives back the native memory after each test.
+     */
+    @After
+    public void tearDown() {
+        ints.close();
+    }
+
+    // ~*~*~*~*~ Get/Set Tests Below ~*~*~*~*~
+    /**
+     * Tests that elements round-trip through the codec
+     */
+    @Test
+    public void testGetSet() {
+        assertEquals(10, ints.size());
+        assertEquals(Integer.valueOf(7), ints.get(7));
+        assertEquals(Integer.valueOf(7), ints.set(7, -70));
+        assertEquals(Integer.valueOf(-70), ints.get(7));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, -70, 8, 9]", ints.toString());
+    }
+
+    /**
+     * Tests that reading past the elements throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        ints.get(10);
+    }
+
+    // ~*~*~*~*~ Add/Remove Tests Below ~*~*~*~*~
+    /**
+     * Tests that inserting and removing shift the overlapping ranges correctly
+     */
+    @Test
+    public void testAddRemoveShift() {
+        ints.add(0, -1);
+        ints.add(5, 100);
+        ints.add(12, 200);
+        assertEquals("[-1, 0, 1, 2, 3, 100, 4, 5, 6, 7, 8, 9, 200]", ints.toString());
+        assertEquals(Integer.valueOf(-1), ints.remove(0));
+        assertEquals(Integer.valueOf(100), ints.remove(4));
+        assertEquals(Integer.valueOf(200), ints.remove(10));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", ints.toString());
+    }
+
+    /**
+     * Tests that the storage grows with the growth policy and shrinks on removal
+     */
+    @Test
+    public void testCapacity() {
+        assertEquals(16, ints.capacity());
+        ints.trimToSize();
+        assertEquals(10, ints.capacity());
+        for (int i = 0; i < 8; i++) {
+            ints.remove(ints.size() - 1);
+        }
+        assertTrue(ints.capacity() < 10);
+        assertEquals("[0, 1]", ints.toString());
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests that whole-array operations copy into new off-heap storage
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        OffHeapDynamicArray<Integer> inserted = ints.insert(2, ints.sublist(7, 10));
+        assertEquals("[0, 1, 7, 8, 9, 2, 3, 4, 5, 6, 7, 8, 9]", inserted.toString());
+        assertEquals("[0, 1, 2, 8, 9]", ints.delete(3, 8).toString());
+        assertEquals("[5, 6, 7, 8, 9]", ints.splitSuffix(5).toString());
+        assertEquals("[]", ints.splitPrefix(0).toString());
+
+        DynamicArray<Integer> heap = new DynamicArray<>(0);
+        heap.add(42);
+        heap.add(43);
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 42, 43]", ints.append(heap).toString());
+        inserted.close();
+    }
+
+    /**
+     * Tests that records wider than one primitive can be stored
+     */
+    @Test
+    public void testCustomCodec() {
+        FixedWidthCodec<long[]> pairs = FixedWidthCodec.of(2 * Long.BYTES,
+                (buffer, offset) -> new long[] { buffer.getLong(offset), buffer.getLong(offset + Long.BYTES) },
+                (buffer, offset, item) -> buffer.putLong(offset, item[0]).putLong(offset + Long.BYTES, item[1]));
+        try (OffHeapDynamicArray<long[]> points = new OffHeapDynamicArray<>(pairs, 0)) {
+            points.add(new long[] { 1, 2 });
+            points.add(0, new long[] { 3, 4 });
+            assertArrayEquals(new long[] { 3, 4 }, points.get(0));
+            assertArrayEquals(new long[] { 1, 2 }, points.get(1));
+        }
+    }
+
+    /**
+     * Tests that elements written by a different codec of the same width are
+     * re-encoded, not copied as raw bytes
+     */
+    @Test
+    public void testCopyAcrossCodecs() {
+        FixedWidthCodec<Integer> reversed = FixedWidthCodec.of(Integer.BYTES,
+                (buffer, offset) -> Integer.reverse(buffer.getInt(offset)),
+                (buffer, offset, item) -> buffer.putInt(offset, Integer.reverse(item)));
+        try (OffHeapDynamicArray<Integer> other = new OffHeapDynamicArray<>(reversed, 0);
+                OffHeapDynamicArray<Integer> joined = other.append(ints)) {
+            assertEquals(ints.toString(), joined.toString());
+        }
+    }
+
+    /**
+     * Tests that closing frees the native memory right away
+     */
+    @Test
+    public void testCloseFreesMemory() {
+        BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct")).findFirst().get();
+        OffHeapDynamicArray<Long> big = new OffHeapDynamicArray<>(FixedWidthCodec.LONG, 1 << 20);
+        long before = direct.getMemoryUsed();
+        big.close();
+        assertTrue(direct.getMemoryUsed() <= before - 8 * (1 << 20));
+        big.close();
+    }
+
+    /**
+     * Tests that a closed array cannot be used
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        ints.close();
+        ints.get(0);
+    }
+
+    // ~*~*~*~*~ Mapped File Tests Below ~*~*~*~*~
+    /**
+     * Tests that a mapped array keeps its elements and size across reopening
+     */
+    @Test
+    public void testMappedReopen() throws IOException {
+        File file = folder.newFile("longs.da");
+        try (MappedDynamicArray<Long> longs = MappedDynamicArray.open(file.toPath(), FixedWidthCodec.LONG)) {
+            for (long i = 0; i < 1000; i++) {
+                longs.add(i * i);
+            }
+            longs.add(0, -1L);
+            longs.remove(500);
+            longs.set(1, 42L);
+            longs.force();
+        }
+        try (MappedDynamicArray<Long> longs = MappedDynamicArray.open(file.toPath(), FixedWidthCodec.LONG)) {
+            assertEquals(1000, longs.size());
+            assertEquals(Long.valueOf(-1), longs.get(0));
+            assertEquals(Long.valueOf(42), longs.get(1));
+            assertEquals(Long.valueOf(500L * 500L), longs.get(500));
+            assertEquals(Long.valueOf(999L * 999L), longs.get(999));
+            longs.add(7L);
+        }
+        try (MappedDynamicArray<Long> longs = MappedDynamicArray.open(file.toPath(), FixedWidthCodec.LONG)) {
+            assertEquals(1001, longs.size());
+            assertEquals(Long.valueOf(7), longs.get(1000));
+        }
+    }
+
+    /**
+     * Tests that a file written in the other byte order reads correctly, and
+     * that copying between it and native-order arrays converts the elements
+     */
+    @Test
+    public void testMappedOtherByteOrder() throws IOException {
+        File file = folder.newFile("foreign.da");
+        MappedDynamicArray.open(file.toPath(), FixedWidthCodec.INT).close();
+        // Write 0..9 in the byte order this machine does not use
+        ByteOrder foreign = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN
+                : ByteOrder.BIG_ENDIAN;
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        bytes.putInt(8, foreign == ByteOrder.BIG_ENDIAN ? 0 : 1);
+        bytes.putInt(12, 10);
+        ByteBuffer data = ByteBuffer.allocate(40).order(foreign);
+        for (int i = 0; i < 10; i++) {
+            data.putInt(i);
+        }
+        Files.write(file.toPath(), Arrays.copyOf(bytes.array(), MappedDynamicArray.HEADER_SIZE));
+        Files.write(file.toPath(), data.array(), StandardOpenOption.APPEND);
+        try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file.toPath(), FixedWidthCodec.INT)) {
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", mapped.toString());
+            assertEquals("[2, 3, 4]", mapped.sublist(2, 5).toString());
+            assertEquals("[0, 1, 8, 9]", mapped.delete(2, 8).toString());
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9]",
+                    mapped.append(ints).toString());
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9]",
+                    ints.append(mapped).toString());
+            OffHeapDynamicArray<Integer> grown = mapped.sublist(0, 1);
+            for (int i = 1; i < 100; i++) {
+                grown.add(i);
+            }
+            assertEquals(Integer.valueOf(99), grown.get(99));
+            assertEquals(Integer.valueOf(0), grown.get(0));
+        }
+    }
+
+    /**
+     * Tests that a file written with another element width is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappedWidthMismatch() throws IOException {
+        File file = folder.newFile("ints.da");
+        MappedDynamicArray.open(file.toPath(), FixedWidthCodec.INT).close();
+        MappedDynamicArray.open(file.toPath(), FixedWidthCodec.LONG);
+    }
+
+    /**
+     * Tests that a file that is not a Dynamic Array is rejected
+     */
+    @Test(expected = IOException.class)
+    public void testMappedNotADynamicArray() throws IOException {
+        File file = folder.newFile("text.da");
+        Files.writeString(file.toPath(), "definitely not a Dynamic Array");
+        MappedDynamicArray.open(file.toPath(), FixedWidthCodec.INT);
+    }
+}
@@ -0,0 +1,529 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable `DynamicArrayADT` that is cheap to copy with changes.
+ *
+ * Elements are stored in a 32-way trie: leaves hold 32 elements and each
+ * internal node holds 32 children, so `get` follows at most
+ * log32(n) (at most 7) pointers. The last up-to-32 elements sit in a separate
+ * `tail` array so that `appended` usually copies only the tail.
+ * `updated`, `appended` and `removedLast` return a new version that shares
+ * every node except the O(log32 n) nodes on the changed path, so keeping many
+ * old versions only costs memory for what changed.
+ *
+ * The mutating methods of `DynamicArrayADT` (`set`, `add`, `remove`) are not
+ * supported; use the methods that return a new version instead.
+ */
+public class PersistentDynamicArray<T> implements DynamicArrayADT<T> {
+    /** log2 of the branching factor */
+    static final int BITS = 5;
+    /** The number of children per node (and elements per leaf) */
+    static final int WIDTH = 1 << BITS;
+    /** Selects the child index at one level */
+    static final int MASK = WIDTH - 1;
+    /** The root of an empty trie */
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    /** The empty array (every version starts from here) */
+    private static final PersistentDynamicArray<?> EMPTY = new PersistentDynamicArray<>(0, BITS, EMPTY_NODE,
+            new Object[0]);
+
+    /** The number of elements */
+    private final int count;
+    /** The number of index bits below the root (5 when leaves hang off the root) */
+    private final int shift;
+    /** The root node of the trie (holds every element before the tail) */
+    private final Object[] root;
+    /** The last 1 to 32 elements (empty only for the empty array) */
+    private final Object[] tail;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /* CONSTRUCTORS */
+    /**
+     * Private constructor: versions are made from `empty()`/`of` and then
+     * changed with `appended`/`updated`/`removedLast`
+     */
+    private PersistentDynamicArray(int count, int shift, Object[] root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty PersistentDynamicArray
+     *
+     * @return The empty array
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentDynamicArray<T> empty() {
+        return (PersistentDynamicArray<T>) EMPTY;
+    }
+
+    /**
+     * Makes a PersistentDynamicArray holding the given items in order
+     *
+     * @param items The items
+     * @return The new array
+     */
+    @SafeVarargs
+    public static <T> PersistentDynamicArray<T> of(T... items) {
+        // Copy into a plain Object[] rather than passing the generic array on
+        Object[] copy = new Object[items.length];
+        for (int i = 0; i < items.length; i++) {
+            copy[i] = items[i];
+        }
+        return PersistentDynamicArray.<T>empty().appendedAll(copy, 0, copy.length);
+    }
+
+    /**
+     * Private utility to find the index of the first element in the tail
+     */
+    private int tailOffset() {
+        return this.count < WIDTH ? 0 : ((this.count - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Private utility to find the leaf (or tail) holding an index
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of the elements
+     *
+     * @return A new array holding the elements in order
+     */
+    public Object[] toArray() {
+        Object[] copy = new Object[this.count];
+        for (int i = 0; i < this.count; i += WIDTH) {
+            Object[] leaf = leafFor(i);
+            System.arraycopy(leaf, 0, copy, i, Math.min(WIDTH, this.count - i));
+        }
+        return copy;
+    }
+
+    /**
+     * Private utility to copy the elements of any Dynamic Array
+     */
+    private static Object[] elementsOf(DynamicArrayADT<?> dynamicArray) {
+        if (dynamicArray instanceof PersistentDynamicArray) {
+            return ((PersistentDynamicArray<?>) dynamicArray).toArray();
+        }
+        Object[] elements = new Object[dynamicArray.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = dynamicArray.get(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.count) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `PersistentDynamicArray`
+     */
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* NEW VERSIONS */
+    /**
+     * Returns a new version with the item at an index replaced.
+     * Copies only the path from the root to that item.
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item
+     * @return The new version
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public PersistentDynamicArray<T> updated(int index, T item) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = item;
+            return new PersistentDynamicArray<>(this.count, this.shift, this.root, newTail);
+        }
+        return new PersistentDynamicArray<>(this.count, this.shift, updated(this.shift, this.root, index, item),
+                this.tail);
+    }
+
+    /**
+     * Private utility to copy the path to an index with its item replaced
+     */
+    private static Object[] updated(int level, Object[] node, int index, Object item) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = item;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = updated(level - BITS, (Object[]) node[child], index, item);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a new version with an item added to the end.
+     * Usually copies only the tail; every 32 items the full tail becomes a leaf
+     * of the trie, which copies one path.
+     *
+     * @param item The new item
+     * @return The new version
+     */
+    public PersistentDynamicArray<T> appended(T item) {
+        // 1. Room in the tail: copy just the tail
+        if (this.count - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = item;
+            return new PersistentDynamicArray<>(this.count + 1, this.shift, this.root, newTail);
+        }
+        // 2. Full tail: push it into the trie, adding a level if the root is full
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.count >>> BITS) > (1 << this.shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = newPath(this.shift, this.tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(this.shift, this.root, this.tail);
+        }
+        return new PersistentDynamicArray<>(this.count + 1, newShift, newRoot, new Object[] { item });
+    }
+
+    /**
+     * Private utility to copy the path to the next free leaf and hang the tail there
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int child = ((this.count - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if (level == BITS) {
+            copy[child] = tailNode;
+        } else {
+            Object[] existing = (Object[]) parent[child];
+            copy[child] = existing != null
+                    ? pushTail(level - BITS, existing, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    /**
+     * Private utility to wrap a leaf in single-child nodes down from a level
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Private utility to append many items, filling the tail a chunk at a time
+     */
+    @SuppressWarnings("unchecked")
+    private PersistentDynamicArray<T> appendedAll(Object[] items, int fromIndex, int toIndex) {
+        PersistentDynamicArray<T> result = this;
+        while (fromIndex < toIndex) {
+            int tailLength = result.count - result.tailOffset();
+            if (tailLength == WIDTH) {
+                // Let `appended` push the full tail into the trie
+                result = result.appended((T) items[fromIndex++]);
+                continue;
+            }
+            int taken = Math.min(WIDTH - tailLength, toIndex - fromIndex);
+            Object[] newTail = Arrays.copyOf(result.tail, tailLength + taken);
+            System.arraycopy(items, fromIndex, newTail, tailLength, taken);
+            result = new PersistentDynamicArray<>(result.count + taken, result.shift, result.root, newTail);
+            fromIndex += taken;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new version without its last item
+     *
+     * @return The new version
+     * @throws IndexOutOfBoundsException if the array is empty
+     */
+    public PersistentDynamicArray<T> removedLast() throws IndexOutOfBoundsException {
+        if (this.count == 0) {
+            throw new IndexOutOfBoundsException("The Dynamic Array is empty.");
+        }
+        if (this.count == 1) {
+            return empty();
+        }
+        // 1. More than one item in the tail: shorten the tail
+        if (this.count - tailOffset() > 1) {
+            return new PersistentDynamicArray<>(this.count - 1, this.shift, this.root,
+                    Arrays.copyOf(this.tail, this.tail.length - 1));
+        }
+        // 2. Otherwise the last leaf becomes the tail, and the root may lose a level
+        Object[] newTail = leafFor(this.count - 2);
+        Object[] newRoot = popTail(this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (this.shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentDynamicArray<>(this.count - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Private utility to copy the path to the last leaf without that leaf
+     * (`null` when the node becomes empty)
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int child = ((this.count - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[child] = newChild;
+            return copy;
+        } else if (child == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[child] = null;
+        return copy;
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Not supported: the array is immutable (see `updated`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public T set(int index, T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is immutable; use updated instead.");
+    }
+
+    /**
+     * Gets the value from a given index of the PersistentDynamicArray
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the actual number of elements in the PersistentDynamicArray
+     *
+     * @return The size of the PersistentDynamicArray
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Not supported: the array is immutable (see `appended`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void add(T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is immutable; use appended instead.");
+    }
+
+    /**
+     * Not supported: the array is immutable (see `insert`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void add(int index, T item) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is immutable; use insert instead.");
+    }
+
+    /**
+     * Not supported: the array is immutable (see `removedLast` and `delete`)
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public T remove(int index) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The Dynamic Array is immutable; use delete instead.");
+    }
+
+    /* ITERATION */
+    /**
+     * Returns an iterator that walks the trie one leaf at a time
+     *
+     * @return The iterator
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            /** The next index to return */
+            int cursor = 0;
+            /** The leaf holding `cursor` */
+            Object[] leaf = PersistentDynamicArray.this.tail;
+
+            public boolean hasNext() {
+                return this.cursor < PersistentDynamicArray.this.count;
+            }
+
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((this.cursor & MASK) == 0) {
+                    this.leaf = leafFor(this.cursor);
+                }
+                return (T) this.leaf[this.cursor++ & MASK];
+            }
+        };
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays. The result shares the whole trie of
+     * this array; only the appended items are copied.
+     *
+     * @param secondDA The second Dynamic Array
+     * @return The resulting PersistentDynamicArray
+     */
+    public PersistentDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        Object[] items = elementsOf(secondDA);
+        return appendedAll(items, 0, items.length);
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index. Everything from the index
+     * on is rebuilt; the trie before it is rebuilt too unless inserting at the end.
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted
+     * @return The resulting PersistentDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public PersistentDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        checkRange(index, this.count);
+        if (index == this.count) {
+            return append(newDA);
+        }
+        Object[] current = toArray();
+        Object[] inserted = elementsOf(newDA);
+        // 1. Elements before the index, 2. the inserted elements, 3. the rest
+        return PersistentDynamicArray.<T>empty()
+                .appendedAll(current, 0, index)
+                .appendedAll(inserted, 0, inserted.length)
+                .appendedAll(current, index, current.length);
+    }
+
+    /**
+     * Returns the elements in a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new PersistentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public PersistentDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == 0 && toIndex == this.count) {
+            return this;
+        }
+        PersistentDynamicArray<T> result = empty();
+        for (int i = fromIndex; i < toIndex; i = (i | MASK) + 1) {
+            int leafEnd = Math.min((i | MASK) + 1, toIndex);
+            result = result.appendedAll(leafFor(i), i & MASK, (i & MASK) + (leafEnd - i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements before a specified index
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A new PersistentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public PersistentDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        return sublist(0, toIndex);
+    }
+
+    /**
+     * Returns the elements from a specified index and after
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A new PersistentDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public PersistentDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, this.count);
+        return sublist(fromIndex, this.count);
+    }
+
+    /**
+     * Deletes items at a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting PersistentDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public PersistentDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return sublist(0, fromIndex).append(sublist(toIndex, this.count));
+    }
+
+    /**
+     * Creates a new PersistentDynamicArray from a specified range
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A new PersistentDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public PersistentDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
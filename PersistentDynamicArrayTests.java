@@ -0,0 +1,119 @@
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PersistentDynamicArrayTests {
+
+    private PersistentDynamicArray<Integer> numbers;
+
+    /**
+     * Initializes a persistent array holding 0..9 to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        numbers = PersistentDynamicArray.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    /**
+     * Builds a persistent array holding 0..count-1 one `appended` at a time
+     */
+    public PersistentDynamicArray<Integer> range(int count) {
+        PersistentDynamicArray<Integer> result = PersistentDynamicArray.empty();
+        for (int i = 0; i < count; i++) {
+            result = result.appended(i);
+        }
+        return result;
+    }
+
+    // ~*~*~*~*~ Version Tests Below ~*~*~*~*~
+    /**
+     * Tests that appending across several trie levels keeps every element
+     */
+    @Test
+    public void testAppendedAcrossLevels() {
+        PersistentDynamicArray<Integer> big = range(40000);
+        assertEquals(40000, big.size());
+        for (int i = 0; i < big.size(); i++) {
+            assertEquals(Integer.valueOf(i), big.get(i));
+        }
+        int expected = 0;
+        for (int item : big) {
+            assertEquals(expected++, item);
+        }
+    }
+
+    /**
+     * Tests that new versions leave every old version unchanged
+     */
+    @Test
+    public void testOldVersionsUnchanged() {
+        PersistentDynamicArray<Integer> base = range(2000);
+        List<PersistentDynamicArray<Integer>> versions = new ArrayList<>();
+        PersistentDynamicArray<Integer> current = base;
+        for (int i = 0; i < 100; i++) {
+            current = current.updated(i * 20, -i);
+            versions.add(current);
+        }
+        assertEquals(Integer.valueOf(20), base.get(20));
+        assertEquals(Integer.valueOf(-1), versions.get(1).get(20));
+        assertEquals(Integer.valueOf(40), versions.get(1).get(40));
+        assertEquals(Integer.valueOf(-99), current.get(1980));
+        assertEquals(Integer.valueOf(1999), current.appended(5).get(1999));
+        assertEquals(2000, base.size());
+    }
+
+    /**
+     * Tests that removing the last items shrinks the trie back down to empty
+     */
+    @Test
+    public void testRemovedLast() {
+        PersistentDynamicArray<Integer> big = range(33 * 32 + 5);
+        for (int size = big.size(); size > 0; size--) {
+            assertEquals(size, big.size());
+            assertEquals(Integer.valueOf(size - 1), big.get(size - 1));
+            big = big.removedLast();
+        }
+        assertEquals(0, big.size());
+        assertEquals("[7]", big.appended(7).toString());
+    }
+
+    /**
+     * Tests that the mutating operations are not supported
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetUnsupported() {
+        numbers.set(0, 1);
+    }
+
+    /**
+     * Tests that reading past the elements throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        numbers.get(10);
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests the whole-array operations, including ranges that cross leaves
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        PersistentDynamicArray<Integer> middle = numbers.sublist(3, 6);
+        assertEquals("[3, 4, 5]", middle.toString());
+        assertEquals("[0, 1, 3, 4, 5, 2, 3, 4, 5, 6, 7, 8, 9]", numbers.insert(2, middle).toString());
+        assertEquals("[0, 1, 2, 7, 8, 9]", numbers.delete(3, 7).toString());
+        assertEquals("[8, 9, 3, 4, 5]", numbers.splitSuffix(8).append(middle).toString());
+        assertEquals("[]", numbers.splitPrefix(0).toString());
+
+        PersistentDynamicArray<Integer> big = range(5000);
+        PersistentDynamicArray<Integer> slice = big.sublist(31, 4033);
+        assertEquals(4002, slice.size());
+        assertEquals(Integer.valueOf(31), slice.get(0));
+        assertEquals(Integer.valueOf(4032), slice.get(4001));
+        assertEquals(Integer.valueOf(4500), big.delete(100, 4000).get(600));
+    }
+}
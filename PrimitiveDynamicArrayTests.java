@@ -0,0 +1,116 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PrimitiveDynamicArrayTests {
+
+    private IntDynamicArray ints;
+    private LongDynamicArray longs;
+    private DoubleDynamicArray doubles;
+
+    /**
+     * Initializes primitive arrays to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        ints = IntDynamicArray.of(1, 2, 3, 4, 5, 6);
+        longs = LongDynamicArray.of(10L, 20L, 30L);
+        doubles = DoubleDynamicArray.of(0.5, 1.5);
+    }
+
+    // ~*~*~*~*~ Get/Set Tests Below ~*~*~*~*~
+    /**
+     * Tests that get and set read and write unboxed values
+     */
+    @Test
+    public void testGetSet() {
+        assertEquals(1, ints.get(0));
+        assertEquals(6, ints.set(5, 60));
+        assertEquals(60, ints.get(5));
+        assertEquals(30L, longs.get(2));
+        assertEquals(1.5, doubles.get(1), 0.0);
+    }
+
+    /**
+     * Tests that reading past the elements throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        ints.get(6);
+    }
+
+    // ~*~*~*~*~ Add/Remove Tests Below ~*~*~*~*~
+    /**
+     * Tests that adding at the end, in the middle and at size() works
+     */
+    @Test
+    public void testAdd() {
+        IntDynamicArray empty = new IntDynamicArray(0);
+        empty.add(7);
+        empty.add(0, 5);
+        empty.add(1, 6);
+        empty.add(3, 8);
+        assertArrayEquals(new int[] { 5, 6, 7, 8 }, empty.toArray());
+    }
+
+    /**
+     * Tests that adding at a negative index throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testNegativeIndexAdd() {
+        longs.add(-1, 0L);
+    }
+
+    /**
+     * Tests that removing shifts the remaining elements to the left
+     */
+    @Test
+    public void testRemove() {
+        assertEquals(3, ints.remove(2));
+        assertArrayEquals(new int[] { 1, 2, 4, 5, 6 }, ints.toArray());
+        assertEquals(0.5, doubles.remove(0), 0.0);
+        assertEquals(1, doubles.size());
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests append and insert without modifying the originals
+     */
+    @Test
+    public void testAppendInsert() {
+        IntDynamicArray other = IntDynamicArray.of(8, 9);
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6, 8, 9 }, ints.append(other).toArray());
+        assertArrayEquals(new int[] { 1, 8, 9, 2, 3, 4, 5, 6 }, ints.insert(1, other).toArray());
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6, 1, 2, 3, 4, 5, 6 }, ints.append(ints).toArray());
+        assertEquals(6, ints.size());
+    }
+
+    /**
+     * Tests the range operations
+     */
+    @Test
+    public void testRanges() {
+        assertArrayEquals(new int[] { 3, 4 }, ints.extract(2, 4).toArray());
+        assertArrayEquals(new int[] { 1, 2 }, ints.splitPrefix(2).toArray());
+        assertArrayEquals(new int[] { 5, 6 }, ints.splitSuffix(4).toArray());
+        assertArrayEquals(new int[] { 1, 6 }, ints.delete(1, 5).toArray());
+        assertEquals(0, ints.sublist(6, 6).size());
+    }
+
+    /**
+     * Tests that deleting a backwards range throws the right exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteBounds() {
+        ints.delete(4, 2);
+    }
+
+    /**
+     * Tests that extracting past the end throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractBounds() {
+        doubles.extract(0, 3);
+    }
+}
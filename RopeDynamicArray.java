@@ -0,0 +1,550 @@
+/**
+ * A `DynamicArrayADT` stored as a rope: a balanced (AVL) tree whose leaves
+ * are fixed-size chunks of elements.
+ * Nodes are never changed after they are built, so whole-array operations
+ * (append, insert, split, delete) share the untouched parts of the tree and
+ * run in O(log n) instead of copying every element.
+ */
+public class RopeDynamicArray<T> implements DynamicArrayADT<T> {
+    /** The most elements a leaf chunk holds */
+    static final int LEAF_CAPACITY = 64;
+    /** The root of the tree (`null` when the array is empty) */
+    Node root;
+    /** Default Index Error Message */
+    String indexErrorMessage = "Invalid index.";
+
+    /** A node of the rope: either a chunk of elements or two subtrees */
+    private abstract static class Node {
+        /** The number of elements below this node */
+        final int size;
+        /** The height of this node (leaves are 0) */
+        final int height;
+
+        Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    /** A leaf holding up to `LEAF_CAPACITY` elements in order */
+    private static final class Leaf extends Node {
+        /** The elements (exactly `size` of them) */
+        final Object[] elements;
+
+        Leaf(Object[] elements) {
+            super(elements.length, 0);
+            this.elements = elements;
+        }
+    }
+
+    /** A branch joining a left and a right subtree */
+    private static final class Branch extends Node {
+        /** The elements that come first */
+        final Node left;
+        /** The elements that come after `left` */
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /* CONSTRUCTORS */
+    /**
+     * Basic constructor to make an empty RopeDynamicArray
+     */
+    public RopeDynamicArray() {
+        this.root = null;
+    }
+
+    /**
+     * Builds a RopeDynamicArray holding the elements of another Dynamic Array
+     *
+     * @param original The Dynamic Array to copy (any implementation)
+     */
+    public RopeDynamicArray(DynamicArrayADT<T> original) {
+        this.root = build(original);
+    }
+
+    /**
+     * Private constructor that wraps an existing tree
+     *
+     * @param root The root of the tree
+     */
+    private RopeDynamicArray(Node root) {
+        this.root = root;
+    }
+
+    /* TREE UTILITIES */
+    /**
+     * Private utility to build a balanced tree from the elements of a Dynamic Array
+     * in O(n), by cutting them into full leaves and pairing them up level by level
+     *
+     * @param source The Dynamic Array to copy
+     * @return The root of the new tree
+     */
+    private static <T> Node build(DynamicArrayADT<T> source) {
+        int count = source.size();
+        if (count == 0) {
+            return null;
+        }
+        Node[] level = new Node[(count + LEAF_CAPACITY - 1) / LEAF_CAPACITY];
+        for (int leaf = 0; leaf < level.length; leaf++) {
+            int start = leaf * LEAF_CAPACITY;
+            Object[] elements = new Object[Math.min(LEAF_CAPACITY, count - start)];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = source.get(start + i);
+            }
+            level[leaf] = new Leaf(elements);
+        }
+        int width = level.length;
+        while (width > 1) {
+            int next = 0;
+            for (int i = 0; i < width; i += 2) {
+                level[next++] = (i + 1 < width) ? join(level[i], level[i + 1]) : level[i];
+            }
+            width = next;
+        }
+        return level[0];
+    }
+
+    /**
+     * Private utility to get the size of a possibly empty tree
+     */
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Private utility to make a branch, rotating once or twice if the
+     * heights of the two sides differ by more than 1 (AVL rebalancing)
+     *
+     * @param left  The left subtree
+     * @param right The right subtree (heights may differ by at most 2)
+     * @return The balanced subtree
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch heavy = (Branch) left;
+            if (heavy.left.height >= heavy.right.height) {
+                return new Branch(heavy.left, new Branch(heavy.right, right));
+            }
+            Branch inner = (Branch) heavy.right;
+            return new Branch(new Branch(heavy.left, inner.left), new Branch(inner.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch heavy = (Branch) right;
+            if (heavy.right.height >= heavy.left.height) {
+                return new Branch(new Branch(left, heavy.left), heavy.right);
+            }
+            Branch inner = (Branch) heavy.left;
+            return new Branch(new Branch(left, inner.left), new Branch(inner.right, heavy.right));
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Private utility to concatenate two trees in O(|height difference| + 1).
+     * The shorter tree is hung off the spine of the taller one, and small
+     * neighbouring leaves are merged into one chunk.
+     *
+     * @param left  The elements that come first (may be `null`)
+     * @param right The elements that come after (may be `null`)
+     * @return The root of the joined tree
+     */
+    private static Node join(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.height > right.height + 1) {
+            Branch branch = (Branch) left;
+            return balance(branch.left, join(branch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch branch = (Branch) right;
+            return balance(join(left, branch.left), branch.right);
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= LEAF_CAPACITY) {
+            Object[] merged = new Object[left.size + right.size];
+            System.arraycopy(((Leaf) left).elements, 0, merged, 0, left.size);
+            System.arraycopy(((Leaf) right).elements, 0, merged, left.size, right.size);
+            return new Leaf(merged);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Private utility to get the first `count` elements of a tree in O(log n)
+     *
+     * @param node  The tree
+     * @param count The number of elements to keep
+     * @return The root of the prefix tree (`null` if empty)
+     */
+    private static Node prefix(Node node, int count) {
+        if (count <= 0) {
+            return null;
+        }
+        if (count >= node.size) {
+            return node;
+        }
+        if (node instanceof Leaf) {
+            Object[] elements = new Object[count];
+            System.arraycopy(((Leaf) node).elements, 0, elements, 0, count);
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        if (count <= branch.left.size) {
+            return prefix(branch.left, count);
+        }
+        return join(branch.left, prefix(branch.right, count - branch.left.size));
+    }
+
+    /**
+     * Private utility to get the elements of a tree from `fromIndex` on in O(log n)
+     *
+     * @param node      The tree
+     * @param fromIndex The first index to keep
+     * @return The root of the suffix tree (`null` if empty)
+     */
+    private static Node suffix(Node node, int fromIndex) {
+        if (node == null || fromIndex >= node.size) {
+            return null;
+        }
+        if (fromIndex <= 0) {
+            return node;
+        }
+        if (node instanceof Leaf) {
+            Object[] elements = new Object[node.size - fromIndex];
+            System.arraycopy(((Leaf) node).elements, fromIndex, elements, 0, elements.length);
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        if (fromIndex >= branch.left.size) {
+            return suffix(branch.right, fromIndex - branch.left.size);
+        }
+        return join(suffix(branch.left, fromIndex), branch.right);
+    }
+
+    /**
+     * Private utility to copy the path to an index, replacing its element
+     *
+     * @param node  The tree
+     * @param index The index within this tree
+     * @param item  The new element
+     * @return The root of the updated tree
+     */
+    private static Node replace(Node node, int index, Object item) {
+        if (node instanceof Leaf) {
+            Object[] elements = ((Leaf) node).elements.clone();
+            elements[index] = item;
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        if (index < branch.left.size) {
+            return new Branch(replace(branch.left, index, item), branch.right);
+        }
+        return new Branch(branch.left, replace(branch.right, index - branch.left.size, item));
+    }
+
+    /**
+     * Private utility to copy the path to an index, inserting an element there.
+     * A full leaf is split into two half-full leaves.
+     *
+     * @param node  The tree
+     * @param index The index within this tree (may equal its size)
+     * @param item  The new element
+     * @return The root of the updated tree
+     */
+    private static Node insertAt(Node node, int index, Object item) {
+        if (node instanceof Leaf) {
+            Object[] old = ((Leaf) node).elements;
+            Object[] elements = new Object[old.length + 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            elements[index] = item;
+            System.arraycopy(old, index, elements, index + 1, old.length - index);
+            if (elements.length <= LEAF_CAPACITY) {
+                return new Leaf(elements);
+            }
+            int half = elements.length / 2;
+            Object[] front = new Object[half];
+            Object[] back = new Object[elements.length - half];
+            System.arraycopy(elements, 0, front, 0, half);
+            System.arraycopy(elements, half, back, 0, back.length);
+            return new Branch(new Leaf(front), new Leaf(back));
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.size) {
+            return balance(insertAt(branch.left, index, item), branch.right);
+        }
+        return balance(branch.left, insertAt(branch.right, index - branch.left.size, item));
+    }
+
+    /**
+     * Private utility to copy the path to an index, removing its element.
+     * An emptied leaf disappears and its sibling takes the parent's place.
+     *
+     * @param node  The tree
+     * @param index The index within this tree
+     * @return The root of the updated tree (`null` if it is now empty)
+     */
+    private static Node removeAt(Node node, int index) {
+        if (node instanceof Leaf) {
+            Object[] old = ((Leaf) node).elements;
+            if (old.length == 1) {
+                return null;
+            }
+            Object[] elements = new Object[old.length - 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            System.arraycopy(old, index + 1, elements, index, elements.length - index);
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        if (index < branch.left.size) {
+            return join(removeAt(branch.left, index), branch.right);
+        }
+        return join(branch.left, removeAt(branch.right, index - branch.left.size));
+    }
+
+    /**
+     * Private utility to turn any Dynamic Array into a tree, reusing the tree
+     * of another RopeDynamicArray instead of copying it
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node treeOf(DynamicArrayADT<T> other) {
+        if (other instanceof RopeDynamicArray) {
+            return ((RopeDynamicArray<T>) other).root;
+        }
+        return build(other);
+    }
+
+    /**
+     * Checks to see if an index holds an element of the RopeDynamicArray
+     *
+     * @param index The specified index
+     * @return True/False - If the index is within the RopeDynamicArray
+     */
+    public boolean indexInRange(int index) {
+        return 0 <= index && index < sizeOf(this.root);
+    }
+
+    /**
+     * Private utility to check a [fromIndex, toIndex) range
+     *
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    private void checkRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid start and end indeces.");
+        }
+        if (fromIndex < 0 || toIndex > this.size()) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+    }
+
+    /**
+     * Create a String representation of the current `RopeDynamicArray`
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.get(i));
+        }
+        return builder.append("]").toString();
+    }
+
+    /* GROUP 1: BASIC OPERATIONS */
+    /**
+     * Sets the value at the index to a specified value (O(log n))
+     *
+     * @param index The index at which to change its value
+     * @param item  The new item after setting
+     * @return The previous item
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T set(int index, T item) throws IndexOutOfBoundsException {
+        T previousItem = this.get(index);
+        this.root = replace(this.root, index, item);
+        return previousItem;
+    }
+
+    /**
+     * Gets the value from a given index of the RopeDynamicArray (O(log n))
+     *
+     * @param index The specified index
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException {
+        if (!indexInRange(index)) {
+            throw new IndexOutOfBoundsException("The index is: " + index + indexErrorMessage);
+        }
+        Node node = this.root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return (T) ((Leaf) node).elements[index];
+    }
+
+    /**
+     * Returns the actual number of elements in the RopeDynamicArray
+     *
+     * @return The size of the RopeDynamicArray
+     */
+    public int size() {
+        return sizeOf(this.root);
+    }
+
+    /* GROUP 2: ADD/REMOVE ELEMENTS */
+    /**
+     * Adds an item to the end of the RopeDynamicArray (O(log n))
+     *
+     * @param item The new item to be added
+     */
+    public void add(T item) {
+        this.add(this.size(), item);
+    }
+
+    /**
+     * Adds an item to the RopeDynamicArray at the specified index (O(log n))
+     *
+     * @param index The specific index (adding at `size()` appends)
+     * @param item  The item to be added
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public void add(int index, T item) throws IndexOutOfBoundsException {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException(indexErrorMessage);
+        }
+        if (this.root == null) {
+            this.root = new Leaf(new Object[] { item });
+        } else {
+            this.root = insertAt(this.root, index, item);
+        }
+    }
+
+    /**
+     * Removes an item at a specified index (O(log n))
+     *
+     * @param index The specific index
+     * @return The element previously at that index
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public T remove(int index) throws IndexOutOfBoundsException {
+        T removedItem = this.get(index);
+        this.root = removeAt(this.root, index);
+        return removedItem;
+    }
+
+    /* GROUP 3: WHOLE-ARRAY OPERATIONS */
+    /**
+     * Concatenates two Dynamic Arrays (O(log n) if the second one is a rope)
+     *
+     * @param secondDA The second Dynamic Array
+     * @return The resulting RopeDynamicArray
+     */
+    public RopeDynamicArray<T> append(DynamicArrayADT<T> secondDA) {
+        return new RopeDynamicArray<>(join(this.root, treeOf(secondDA)));
+    }
+
+    /**
+     * Inserts a Dynamic Array at a specified index (O(log n) if it is a rope)
+     *
+     * @param index The specific index for insertion
+     * @param newDA The Dynamic Array to be inserted
+     * @return The resulting RopeDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public RopeDynamicArray<T> insert(int index, DynamicArrayADT<T> newDA) throws IndexOutOfBoundsException {
+        checkRange(index, this.size());
+        Node front = join(prefix(this.root, index), treeOf(newDA));
+        return new RopeDynamicArray<>(join(front, suffix(this.root, index)));
+    }
+
+    /**
+     * Returns the elements in a specified range (O(log n))
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A RopeDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if starting index is larger than ending
+     *                                   index
+     */
+    public RopeDynamicArray<T> sublist(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return new RopeDynamicArray<>(prefix(suffix(this.root, fromIndex), toIndex - fromIndex));
+    }
+
+    /**
+     * Returns the elements before a specified index (O(log n))
+     *
+     * @param toIndex The ending index (Exclusive)
+     * @return A RopeDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public RopeDynamicArray<T> splitPrefix(int toIndex) throws IndexOutOfBoundsException {
+        checkRange(0, toIndex);
+        return new RopeDynamicArray<>(prefix(this.root, toIndex));
+    }
+
+    /**
+     * Returns the elements from a specified index and after (O(log n))
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @return A RopeDynamicArray containing the items within the range
+     * @throws IndexOutOfBoundsException for invalid indices
+     */
+    public RopeDynamicArray<T> splitSuffix(int fromIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, this.size());
+        return new RopeDynamicArray<>(suffix(this.root, fromIndex));
+    }
+
+    /**
+     * Deletes items at a specified range (O(log n))
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return The resulting RopeDynamicArray
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public RopeDynamicArray<T> delete(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkRange(fromIndex, toIndex);
+        return new RopeDynamicArray<>(join(prefix(this.root, fromIndex), suffix(this.root, toIndex)));
+    }
+
+    /**
+     * Creates a new RopeDynamicArray from a specified range (O(log n))
+     *
+     * @param fromIndex The starting index (Inclusive)
+     * @param toIndex   The ending index (Exclusive)
+     * @return A RopeDynamicArray containing the items from the specified range
+     * @throws IndexOutOfBoundsException for invalid indices
+     * @throws IllegalArgumentException  if the starting index is larger than the
+     *                                   ending index
+     */
+    public RopeDynamicArray<T> extract(int fromIndex, int toIndex)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return sublist(fromIndex, toIndex);
+    }
+}
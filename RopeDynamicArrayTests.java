@@ -0,0 +1,124 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RopeDynamicArrayTests {
+
+    private RopeDynamicArray<Character> a1;
+    private RopeDynamicArray<Character> a2;
+    private RopeDynamicArray<Character> empty;
+
+    /**
+     * Initializes RopeDynamicArray<Character> instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToRope("abcdef");
+        a2 = stringToRope("wxyz");
+        empty = stringToRope("");
+    }
+
+    /**
+     * Puts the characters of a string into a rope
+     */
+    public RopeDynamicArray<Character> stringToRope(String s) {
+        RopeDynamicArray<Character> result = new RopeDynamicArray<Character>();
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the elements of a rope against those in a string
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("[" + s + "] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("[" + s + "] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    // ~*~*~*~*~ Basic Tests Below ~*~*~*~*~
+    /**
+     * Tests get, set, add and remove on a single rope
+     */
+    @Test
+    public void testBasicOperations() {
+        a1.add(0, 'z');
+        a1.add(7, 'g');
+        assertEquals(Character.valueOf('c'), a1.set(3, 'C'));
+        assertEquals(Character.valueOf('z'), a1.remove(0));
+        compareToString(a1, "abCdefg");
+    }
+
+    /**
+     * Tests that getting past the end throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUpperBounds() {
+        a1.get(6);
+    }
+
+    /**
+     * Tests that inserting and removing across many leaves keeps the order
+     */
+    @Test
+    public void testManyLeaves() {
+        RopeDynamicArray<Integer> big = new RopeDynamicArray<>();
+        for (int i = 0; i < 1000; i++) {
+            big.add(i);
+        }
+        big.add(500, -1);
+        assertEquals(Integer.valueOf(-1), big.remove(500));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), big.get(i));
+        }
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests append and insert with ropes and plain Dynamic Arrays,
+     * without changing the originals
+     */
+    @Test
+    public void testAppendInsert() {
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.append(a1), "abcdefabcdef");
+        compareToString(empty.append(a1), "abcdef");
+        compareToString(a1.insert(3, a2), "abcwxyzdef");
+        DynamicArray<Character> plain = new DynamicArray<>(0);
+        plain.add('s');
+        compareToString(a1.insert(6, plain), "abcdefs");
+        compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests the split, sublist, delete and extract operations
+     */
+    @Test
+    public void testRanges() {
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(2), "cdef");
+        compareToString(a1.sublist(1, 4), "bcd");
+        compareToString(a1.delete(1, 5), "af");
+        compareToString(a1.extract(6, 6), "");
+    }
+
+    /**
+     * Tests that deleting a backwards range throws the right exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeleteBounds() {
+        a1.delete(4, 2);
+    }
+
+    /**
+     * Tests that extracting past the end throws an exception
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractBounds() {
+        a1.extract(0, 7);
+    }
+}
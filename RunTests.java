@@ -25,8 +25,11 @@ public class RunTests {
             }
         });
 
-        // run the student’s test class
-        Result result = core.run(DynamicArrayTests.class);
+        // run the student’s test classes
+        Result result = core.run(DynamicArrayTests.class, PrimitiveDynamicArrayTests.class,
+                RopeDynamicArrayTests.class, OffHeapDynamicArrayTests.class, ConcurrentDynamicArrayTests.class,
+                AppendOnlyDynamicArrayTests.class, PersistentDynamicArrayTests.class, LazyDynamicArrayTests.class,
+                BigDynamicArrayTests.class);
 
         System.out.println("\n====================");
         System.out.println("Summary:");
@@ -0,0 +1,48 @@
+/**
+ * Decides whether the storage of a `DynamicArray` should be reduced
+ * after elements are removed.
+ */
+@FunctionalInterface
+public interface ShrinkPolicy {
+    /** Default policy: halve the storage once it is at most a quarter full */
+    ShrinkPolicy DEFAULT = hysteresis(4);
+
+    /**
+     * Returns the capacity the storage should have after a removal
+     *
+     * @param currentCapacity The capacity of the current storage
+     * @param length          The length of the `DynamicArray` after the removal
+     * @return The new capacity (`currentCapacity` to keep the storage as is)
+     */
+    int shrink(int currentCapacity, int length);
+
+    /**
+     * Never gives storage back
+     *
+     * @return The policy that always keeps the current capacity
+     */
+    static ShrinkPolicy never() {
+        return (currentCapacity, length) -> currentCapacity;
+    }
+
+    /**
+     * Halves the storage once the length falls to `1 / divisor` of the capacity.
+     * Because the divisor is larger than the growth step, alternating add/remove
+     * at the boundary never reallocates back and forth.
+     *
+     * @param divisor How empty the storage must be before it shrinks (at least 3)
+     * @return The hysteresis policy
+     * @throws IllegalArgumentException if the divisor is less than 3
+     */
+    static ShrinkPolicy hysteresis(int divisor) throws IllegalArgumentException {
+        if (divisor < 3) {
+            throw new IllegalArgumentException("Shrink divisor must be at least 3.");
+        }
+        return (currentCapacity, length) -> {
+            if (length <= currentCapacity / divisor) {
+                return Math.max(currentCapacity / 2, length);
+            }
+            return currentCapacity;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+import benchmarks.ArrayTarget;
+
+/**
+ * Adapts `DynamicArray` to the benchmark operations.
+ * It is in the default package (like `DynamicArray`) and is loaded by name.
+ */
+public class DynamicArrayTarget implements ArrayTarget {
+    private DynamicArray<Integer> array = new DynamicArray<>(0);
+    private final DynamicArray<Integer> small = new DynamicArray<>(0);
+    /** "plain", "ring" or "gap" */
+    private final String layout;
+
+    public DynamicArrayTarget(String layout) {
+        this.layout = layout;
+        for (int i = 0; i < SMALL_SIZE; i++) {
+            small.add(-i);
+        }
+    }
+
+    public void fill(int count) {
+        array = new DynamicArray<>(0);
+        array.setRingBuffer(layout.equals("ring"));
+        array.setGapBuffer(layout.equals("gap"));
+        for (int i = 0; i < count; i++) {
+            array.add(i);
+        }
+    }
+
+    public int size() {
+        return array.size();
+    }
+
+    public Object get(int index) {
+        return array.get(index);
+    }
+
+    public void add(Integer item) {
+        array.add(item);
+    }
+
+    public void add(int index, Integer item) {
+        array.add(index, item);
+    }
+
+    public Object remove(int index) {
+        return array.remove(index);
+    }
+
+    public void addFirst(Integer item) {
+        array.addFirst(item);
+    }
+
+    public Object removeFirst() {
+        return array.removeFirst();
+    }
+
+    public Object removeLast() {
+        return array.removeLast();
+    }
+
+    public Object appendSelf() {
+        return array.append(array);
+    }
+
+    public Object insertSmall(int index) {
+        return array.insert(index, small);
+    }
+
+    public Object sublist(int from, int to) {
+        return array.sublist(from, to);
+    }
+
+    public Object delete(int from, int to) {
+        return array.delete(from, to);
+    }
+
+    public Object extract(int from, int to) {
+        return array.extract(from, to);
+    }
+}
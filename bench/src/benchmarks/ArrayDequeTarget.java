@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.ArrayDeque;
+
+/**
+ * `java.util.ArrayDeque` baseline for the operations at either end.
+ * It has no indexed access, so the other operations are unsupported.
+ */
+final class ArrayDequeTarget implements ArrayTarget {
+    private ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+    public void fill(int count) {
+        deque = new ArrayDeque<>();
+        for (int i = 0; i < count; i++) {
+            deque.addLast(i);
+        }
+    }
+
+    public int size() {
+        return deque.size();
+    }
+
+    public void add(Integer item) {
+        deque.addLast(item);
+    }
+
+    public void addFirst(Integer item) {
+        deque.addFirst(item);
+    }
+
+    public Object removeFirst() {
+        return deque.removeFirst();
+    }
+
+    public Object removeLast() {
+        return deque.removeLast();
+    }
+
+    public Object get(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void add(int index, Integer item) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object appendSelf() {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object insertSmall(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object sublist(int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object delete(int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object extract(int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.util.ArrayList;
+
+/**
+ * `java.util.ArrayList` baseline. Whole-array operations copy, to match the
+ * functional style of `DynamicArrayADT`.
+ */
+final class ArrayListTarget implements ArrayTarget {
+    private ArrayList<Integer> list = new ArrayList<>();
+    private final ArrayList<Integer> small = new ArrayList<>();
+
+    ArrayListTarget() {
+        for (int i = 0; i < SMALL_SIZE; i++) {
+            small.add(-i);
+        }
+    }
+
+    public void fill(int count) {
+        list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public Object get(int index) {
+        return list.get(index);
+    }
+
+    public void add(Integer item) {
+        list.add(item);
+    }
+
+    public void add(int index, Integer item) {
+        list.add(index, item);
+    }
+
+    public Object remove(int index) {
+        return list.remove(index);
+    }
+
+    public void addFirst(Integer item) {
+        list.add(0, item);
+    }
+
+    public Object removeFirst() {
+        return list.remove(0);
+    }
+
+    public Object removeLast() {
+        return list.remove(list.size() - 1);
+    }
+
+    public Object appendSelf() {
+        ArrayList<Integer> result = new ArrayList<>(list.size() * 2);
+        result.addAll(list);
+        result.addAll(list);
+        return result;
+    }
+
+    public Object insertSmall(int index) {
+        ArrayList<Integer> result = new ArrayList<>(list.size() + SMALL_SIZE);
+        result.addAll(list);
+        result.addAll(index, small);
+        return result;
+    }
+
+    public Object sublist(int from, int to) {
+        return new ArrayList<>(list.subList(from, to));
+    }
+
+    public Object delete(int from, int to) {
+        ArrayList<Integer> result = new ArrayList<>(list);
+        result.subList(from, to).clear();
+        return result;
+    }
+
+    public Object extract(int from, int to) {
+        return new ArrayList<>(list.subList(from, to));
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+/**
+ * The operations the benchmarks measure, implemented once per array type.
+ * Every benchmark calls the array through this interface, so the
+ * `DynamicArray` and the `java.util` baselines pay the same (monomorphic,
+ * inlined) call overhead.
+ */
+public interface ArrayTarget {
+    /** Number of elements in the small array used by `insertSmall` */
+    int SMALL_SIZE = 16;
+
+    /**
+     * Loads an implementation by name
+     *
+     * @param name "DynamicArray" (optionally ":ring" or ":gap" for that layout),
+     *             "ArrayList" or "ArrayDeque"
+     * @return The empty target
+     */
+    static ArrayTarget create(String name) {
+        String[] parts = name.split(":");
+        switch (parts[0]) {
+            case "ArrayList":
+                return new ArrayListTarget();
+            case "ArrayDeque":
+                return new ArrayDequeTarget();
+            case "DynamicArray":
+                try {
+                    // DynamicArray lives in the default package, which a named package cannot import
+                    String layout = parts.length > 1 ? parts[1] : "plain";
+                    return (ArrayTarget) Class.forName("DynamicArrayTarget")
+                            .getDeclaredConstructor(String.class).newInstance(layout);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("DynamicArrayTarget is not on the classpath", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown array type: " + name);
+        }
+    }
+
+    /** Replaces the contents with 0 to count - 1, added one at a time */
+    void fill(int count);
+
+    int size();
+
+    Object get(int index);
+
+    void add(Integer item);
+
+    void add(int index, Integer item);
+
+    Object remove(int index);
+
+    void addFirst(Integer item);
+
+    Object removeFirst();
+
+    Object removeLast();
+
+    /** Whole array concatenated with itself, as a new array */
+    Object appendSelf();
+
+    /** A small array of `SMALL_SIZE` elements inserted at an index, as a new array */
+    Object insertSmall(int index);
+
+    /** Elements [from, to) as an independent array */
+    Object sublist(int from, int to);
+
+    /** The array without elements [from, to), as a new array */
+    Object delete(int from, int to);
+
+    /** Elements [from, to) as a new array */
+    Object extract(int from, int to);
+}
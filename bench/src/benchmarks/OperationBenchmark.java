@@ -0,0 +1,106 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures every `DynamicArrayADT` operation on an array of `size` elements,
+ * at the front, middle or back, against `ArrayList`.
+ * Mutating benchmarks undo their change in the same invocation so the size
+ * stays fixed for the whole trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class OperationBenchmark {
+    @Param({ "DynamicArray", "DynamicArray:ring", "DynamicArray:gap", "ArrayList" })
+    public String impl;
+
+    @Param({ "10", "1000", "100000", "10000000" })
+    public int size;
+
+    @Param({ "FRONT", "MIDDLE", "BACK" })
+    public String position;
+
+    private ArrayTarget target;
+    /** The index the positional operations work at */
+    private int index;
+    /** The end of the [index, rangeEnd) range used by the range operations */
+    private int rangeEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = ArrayTarget.create(impl);
+        target.fill(size);
+        switch (position) {
+            case "FRONT":
+                index = 0;
+                break;
+            case "MIDDLE":
+                index = size / 2;
+                break;
+            default:
+                index = size - 1;
+        }
+        // Ranges cover a tenth of the array (at least one element), clipped at the end
+        rangeEnd = Math.min(size, index + Math.max(1, size / 10));
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        bh.consume(target.get(index));
+    }
+
+    @Benchmark
+    public Object addThenRemoveLast() {
+        target.add(-1);
+        return target.remove(target.size() - 1);
+    }
+
+    @Benchmark
+    public Object addAtThenRemoveAt() {
+        target.add(index, -1);
+        return target.remove(index);
+    }
+
+    @Benchmark
+    public Object append() {
+        return target.appendSelf();
+    }
+
+    @Benchmark
+    public Object insert() {
+        return target.insertSmall(index);
+    }
+
+    @Benchmark
+    public Object sublist() {
+        return target.sublist(index, rangeEnd);
+    }
+
+    @Benchmark
+    public Object delete() {
+        return target.delete(index, rangeEnd);
+    }
+
+    @Benchmark
+    public Object extract() {
+        return target.extract(index, rangeEnd);
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures using the array as a queue or deque of `size` elements,
+ * against `ArrayDeque` and `ArrayList`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class QueueBenchmark {
+    @Param({ "DynamicArray", "DynamicArray:ring", "ArrayList", "ArrayDeque" })
+    public String impl;
+
+    @Param({ "10", "1000", "100000", "10000000" })
+    public int size;
+
+    private ArrayTarget target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = ArrayTarget.create(impl);
+        target.fill(size);
+    }
+
+    /** Enqueue at the back, dequeue from the front */
+    @Benchmark
+    public Object enqueueDequeue() {
+        target.add(-1);
+        return target.removeFirst();
+    }
+
+    /** Push and pop at the front */
+    @Benchmark
+    public Object addFirstRemoveFirst() {
+        target.addFirst(-1);
+        return target.removeFirst();
+    }
+
+    /** Push and pop at the back */
+    @Benchmark
+    public Object addRemoveLast() {
+        target.add(-1);
+        return target.removeLast();
+    }
+}